@@ -0,0 +1,60 @@
+package com.todoapp.todo_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.exception.GlobalExceptionHandler;
+import com.todoapp.todo_backend.exception.ResourceNotFoundException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and serializes the error bodies produced by {@link GlobalExceptionHandler}.
+ * Exceptions are created once, so only the handler and JSON cost is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorBodyBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+    private ObjectMapper objectMapper;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        notFound = new ResourceNotFoundException("Task not found with id: 42");
+
+        TaskRequestDto dto = new TaskRequestDto();
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(dto, "taskRequestDto");
+        result.rejectValue("title", "NotBlank", "Title is required");
+        result.rejectValue("description", "Size", "Description max 2000 chars");
+        MethodParameter parameter = new MethodParameter(
+                ErrorBodyBenchmark.class.getDeclaredMethod("target", TaskRequestDto.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, result);
+    }
+
+    @Benchmark
+    public byte[] notFoundBody() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleNotFound(notFound).getBody());
+    }
+
+    @Benchmark
+    public byte[] validationBody() throws Exception {
+        return objectMapper.writeValueAsBytes(handler.handleValidation(invalid).getBody());
+    }
+
+    @SuppressWarnings("unused")
+    private void target(TaskRequestDto dto) {
+    }
+}
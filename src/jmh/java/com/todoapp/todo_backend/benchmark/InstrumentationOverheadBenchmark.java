@@ -0,0 +1,59 @@
+package com.todoapp.todo_backend.benchmark;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost the metrics add to a request: recording into a percentile-histogram
+ * timer like {@code tasks.repository} or {@code http.server.requests}, and
+ * incrementing a counter like {@code tasks.created}. {@code baseline} is the
+ * same token amount of work without any instrumentation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+
+    private Timer timer;
+    private Counter counter;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timer = Timer.builder("tasks.repository")
+                .tag("method", "getLatestInCompletedTaskDtos")
+                .publishPercentileHistogram()
+                .register(registry);
+        counter = Counter.builder("tasks.created").register(registry);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void baseline() {
+        Blackhole.consumeCPU(64);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void timedWithHistogram() {
+        Timer.Sample sample = Timer.start();
+        Blackhole.consumeCPU(64);
+        sample.stop(timer);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void counted() {
+        Blackhole.consumeCPU(64);
+        counter.increment();
+    }
+}
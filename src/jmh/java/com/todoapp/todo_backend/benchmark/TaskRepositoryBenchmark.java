@@ -0,0 +1,126 @@
+package com.todoapp.todo_backend.benchmark;
+
+import com.todoapp.todo_backend.TodoBackendApplication;
+import com.todoapp.todo_backend.config.EmbeddedStorageConfig;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository read and write paths through the same {@link TaskRepositoryTemplate}
+ * bean the service uses, once per storage: JPA against embedded H2, and the
+ * {@code embedded} profile's in-process store in a temporary directory. The
+ * context starts without a web server and with SQL logging off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+    private static final int SEED_ROWS = 10_000;
+    private static final int BATCH = 50;
+
+    @Param({"jpa", EmbeddedStorageConfig.PROFILE})
+    public String storage;
+
+    private ConfigurableApplicationContext context;
+    private Path directory;
+    private TaskRepositoryTemplate repository;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(TodoBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        if (EmbeddedStorageConfig.PROFILE.equals(storage)) {
+            directory = Files.createTempDirectory("benchmark-tasks");
+            application.profiles(EmbeddedStorageConfig.PROFILE);
+            // An argument, because the profile's own file would override a default property.
+            context = application.run("--todo.embedded.directory=" + directory);
+        } else {
+            context = application.run();
+        }
+        repository = context.getBean(TaskRepositoryTemplate.class);
+        List<Task> seed = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            seed.add(newTask(i % 3 == 0));
+        }
+        repository.saveAll(seed);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        if (directory != null) {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public List<Task> latestInCompletedEntities() {
+        return repository.getLatestInCompletedTasks();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> latestInCompletedDtos() {
+        return repository.getLatestInCompletedTaskDtos();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> inCompletedFirstPage() {
+        return repository.getInCompletedPage(null, null, 21);
+    }
+
+    @Benchmark
+    public Task saveOne() {
+        return repository.save(newTask(false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Task> saveBatch() {
+        List<Task> tasks = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            tasks.add(newTask(false));
+        }
+        return repository.saveAll(tasks);
+    }
+
+    private Task newTask(boolean completed) {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = new Task();
+        task.setTitle("Benchmark task " + counter++);
+        task.setDescription("Seeded by TaskRepositoryBenchmark");
+        task.setCreatedAt(now);
+        task.setCompleted(completed);
+        task.setCompletedAt(completed ? now : null);
+        return task;
+    }
+}
@@ -0,0 +1,102 @@
+package com.todoapp.todo_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.todoapp.todo_backend.config.WireFormatConfig;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.presentation.TaskProtobufCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of task listings, including the {@code LocalDateTime} fields.
+ * The JSON mapper is built like Spring Boot's, so dates are written as ISO strings;
+ * the binary formats write them as epoch milliseconds, as the API does. Each
+ * format's payload size is printed once per trial for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"5", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private ObjectWriter cborWriter;
+    private ObjectWriter smileWriter;
+    private List<TaskResponseDto> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        TypeReference<List<TaskResponseDto>> listType = new TypeReference<>() {
+        };
+        listWriter = objectMapper.writerFor(listType);
+        cborWriter = WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new CBORFactory())
+                .writerFor(listType);
+        smileWriter = WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new SmileFactory())
+                .writerFor(listType);
+        LocalDateTime now = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponseDto((long) i, "Task " + i, "Description for task " + i,
+                    now.minusMinutes(i), i % 2 == 0 ? now : null));
+        }
+        try {
+            System.out.printf("%n%d tasks: json=%d cbor=%d smile=%d protobuf=%d bytes%n", size,
+                    writeListWithTypedWriter().length, writeListCbor().length, writeListSmile().length,
+                    writeListProtobuf().length);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** What a controller response pays: type resolved from the runtime value. */
+    @Benchmark
+    public byte[] writeListWithMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    /** Same payload through a pre-resolved writer. */
+    @Benchmark
+    public byte[] writeListWithTypedWriter() throws Exception {
+        return listWriter.writeValueAsBytes(tasks);
+    }
+
+    /** {@code Accept: application/cbor}. */
+    @Benchmark
+    public byte[] writeListCbor() throws Exception {
+        return cborWriter.writeValueAsBytes(tasks);
+    }
+
+    /** {@code Accept: application/x-jackson-smile}. */
+    @Benchmark
+    public byte[] writeListSmile() throws Exception {
+        return smileWriter.writeValueAsBytes(tasks);
+    }
+
+    /** {@code Accept: application/x-protobuf}. */
+    @Benchmark
+    public byte[] writeListProtobuf() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskProtobufCodec.writeTasks(tasks, out);
+        return out.toByteArray();
+    }
+}
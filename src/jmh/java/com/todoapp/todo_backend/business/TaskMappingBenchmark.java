@@ -0,0 +1,56 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping as done by {@link TaskService} for every task it returns.
+ * Lives in the service's package because {@code mapToResponseDto} is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"5", "100"})
+    public int size;
+
+    private Task single;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i);
+            task.setCreatedAt(now.minusMinutes(i));
+            task.setCompleted(i % 2 == 0);
+            task.setCompletedAt(i % 2 == 0 ? now : null);
+            tasks.add(task);
+        }
+        single = tasks.get(0);
+    }
+
+    @Benchmark
+    public TaskResponseDto mapOne() {
+        return TaskService.mapToResponseDto(single);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> mapList() {
+        return tasks.stream().map(TaskService::mapToResponseDto).toList();
+    }
+}
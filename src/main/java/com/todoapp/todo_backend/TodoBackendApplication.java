@@ -1,9 +1,12 @@
 package com.todoapp.todo_backend;
 
+import com.todoapp.todo_backend.config.TaskRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(TaskRuntimeHints.class)
 public class TodoBackendApplication {
 
 	public static void main(String[] args) {
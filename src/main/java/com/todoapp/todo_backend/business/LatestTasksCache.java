@@ -0,0 +1,173 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of the newest completed and incomplete tasks.
+ *
+ * <p>Each list is held as an immutable snapshot behind an {@link AtomicReference}
+ * and replaced with compare-and-set, so reads are a single volatile load and
+ * writers never block readers. Writes are applied after the owning transaction
+ * commits; a load racing with a write is discarded instead of cached, so a
+ * stale database read can never overwrite a newer snapshot.</p>
+ *
+ * <p>Every applied write also advances a {@link TaskChangeVersion}. It is bumped
+ * only after the snapshots are updated, so a reader that sees the new version
+ * is guaranteed to also see the new lists.</p>
+ */
+@Component
+public class LatestTasksCache {
+
+    /** Number of tasks kept per list; matches the repository's latest-task queries. */
+    public static final int LATEST_LIMIT = 5;
+
+    private static final Comparator<TaskResponseDto> BY_COMPLETED_AT_DESC = newestFirst(TaskResponseDto::getCompletedAt);
+    private static final Comparator<TaskResponseDto> BY_CREATED_AT_DESC = newestFirst(TaskResponseDto::getCreatedAt);
+
+    private final AtomicReference<Snapshot> completed = new AtomicReference<>(Snapshot.miss());
+    private final AtomicReference<Snapshot> inCompleted = new AtomicReference<>(Snapshot.miss());
+    private final AtomicReference<TaskChangeVersion> version = new AtomicReference<>(TaskChangeVersion.initial());
+
+    public List<TaskResponseDto> getCompleted(Supplier<List<TaskResponseDto>> loader) {
+        return read(completed, loader);
+    }
+
+    public List<TaskResponseDto> getInCompleted(Supplier<List<TaskResponseDto>> loader) {
+        return read(inCompleted, loader);
+    }
+
+    /** Current version of both lists; read it before the lists themselves. */
+    public TaskChangeVersion version() {
+        return version.get();
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        TaskResponseDto task = event.task();
+        inCompleted.updateAndGet(s -> s.insert(task, BY_CREATED_AT_DESC));
+        version.updateAndGet(TaskChangeVersion::next);
+    }
+
+    /**
+     * Moves completed tasks from the incomplete list to the completed list. The
+     * event only carries ids, so if any of them was not in the cached incomplete
+     * list its details are unknown and the completed list is reloaded instead.
+     */
+    @TransactionalEventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        Set<Long> ids = new HashSet<>(event.ids());
+        Snapshot before = inCompleted.getAndUpdate(s -> s.removeAll(ids));
+        List<TaskResponseDto> moved = new ArrayList<>(ids.size());
+        for (TaskResponseDto task : before.tasks()) {
+            if (ids.contains(task.getId())) {
+                moved.add(completedCopy(task, event.completedAt()));
+            }
+        }
+        if (moved.size() == ids.size()) {
+            completed.updateAndGet(s -> s.insertAll(moved, BY_COMPLETED_AT_DESC));
+        } else {
+            completed.set(Snapshot.miss());
+        }
+        version.updateAndGet(TaskChangeVersion::next);
+    }
+
+    /** Archived tasks leave the completed listing; only the newest list is affected, and rarely. */
+    @TransactionalEventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        Set<Long> ids = new HashSet<>(event.ids());
+        completed.updateAndGet(s -> s.removeAll(ids));
+        version.updateAndGet(TaskChangeVersion::next);
+    }
+
+    private static List<TaskResponseDto> read(AtomicReference<Snapshot> ref, Supplier<List<TaskResponseDto>> loader) {
+        Snapshot seen = ref.get();
+        if (seen.loaded()) {
+            return seen.tasks();
+        }
+        List<TaskResponseDto> loaded = List.copyOf(loader.get());
+        // Only install the result if no write landed while we were loading.
+        ref.compareAndSet(seen, new Snapshot(true, loaded));
+        return loaded;
+    }
+
+    private static TaskResponseDto completedCopy(TaskResponseDto task, LocalDateTime completedAt) {
+        TaskResponseDto copy = new TaskResponseDto();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setCompletedAt(completedAt);
+        return copy;
+    }
+
+    private static Comparator<TaskResponseDto> newestFirst(Function<TaskResponseDto, LocalDateTime> timestamp) {
+        return Comparator.comparing(timestamp, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(TaskResponseDto::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+    }
+
+    private record Snapshot(boolean loaded, List<TaskResponseDto> tasks) {
+
+        static Snapshot miss() {
+            return new Snapshot(false, Collections.emptyList());
+        }
+
+        Snapshot insert(TaskResponseDto task, Comparator<TaskResponseDto> order) {
+            return insertAll(List.of(task), order);
+        }
+
+        Snapshot insertAll(List<TaskResponseDto> added, Comparator<TaskResponseDto> order) {
+            if (!loaded) {
+                return miss();
+            }
+            Set<Long> addedIds = new HashSet<>();
+            added.forEach(task -> addedIds.add(task.getId()));
+            List<TaskResponseDto> next = new ArrayList<>(tasks.size() + added.size());
+            for (TaskResponseDto existing : tasks) {
+                if (!addedIds.contains(existing.getId())) {
+                    next.add(existing);
+                }
+            }
+            next.addAll(added);
+            next.sort(order);
+            if (next.size() > LATEST_LIMIT) {
+                next = next.subList(0, LATEST_LIMIT);
+            }
+            return new Snapshot(true, List.copyOf(next));
+        }
+
+        Snapshot removeAll(Set<Long> ids) {
+            if (!loaded) {
+                return miss();
+            }
+            List<TaskResponseDto> next = new ArrayList<>(tasks.size());
+            for (TaskResponseDto existing : tasks) {
+                if (!ids.contains(existing.getId())) {
+                    next.add(existing);
+                }
+            }
+            if (next.size() == tasks.size()) {
+                // Not one of the newest entries, so the list is unaffected; a fresh
+                // instance still makes any in-flight load fail its compare-and-set.
+                return new Snapshot(true, tasks);
+            }
+            // A full list that lost an entry may have a successor we never saw.
+            return tasks.size() == LATEST_LIMIT ? miss() : new Snapshot(true, List.copyOf(next));
+        }
+    }
+}
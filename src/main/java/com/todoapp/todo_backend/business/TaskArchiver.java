@@ -0,0 +1,163 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves completed tasks older than {@code min-age} from {@code task} to
+ * {@code task_archive}, so the indexes every listing walks only cover recent
+ * tasks.
+ *
+ * <p>Each run walks the archivable tasks oldest first in keyset batches of
+ * {@code batch-size}. A batch is copied and deleted in its own short
+ * transaction, then the archiver pauses for {@code batch-pause} or for as long
+ * as the batch took, whichever is longer, so it never holds a connection more
+ * than half the time. A run stops early whenever threads are waiting for a
+ * pool connection, leaving the rest to the next run.</p>
+ *
+ * <p>Progress is published as {@code tasks.archive.archived} and
+ * {@code tasks.archive.batch}; {@code tasks.archive.lag} is how far past
+ * {@code min-age} the oldest unarchived completed task was at the end of the
+ * last run.</p>
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepositoryTemplate taskRepositoryTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<HikariDataSource> pool;
+    private final Counter archived;
+    private final Timer batches;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${todo.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${todo.archive.min-age:P90D}")
+    private Duration minAge = Duration.ofDays(90);
+
+    @Value("${todo.archive.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.archive.batch-pause:PT0.2S}")
+    private Duration batchPause = Duration.ofMillis(200);
+
+    private volatile boolean stopping;
+
+    public TaskArchiver(TaskRepositoryTemplate taskRepositoryTemplate, PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher, ObjectProvider<HikariDataSource> pool,
+                        MeterRegistry meterRegistry) {
+        this.taskRepositoryTemplate = taskRepositoryTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.pool = pool;
+        this.archived = Counter.builder("tasks.archive.archived")
+                .description("Completed tasks moved to the archive table")
+                .register(meterRegistry);
+        this.batches = Timer.builder("tasks.archive.batch")
+                .description("Time to select, copy and delete one archival batch")
+                .register(meterRegistry);
+        Gauge.builder("tasks.archive.lag", lagSeconds, AtomicLong::get)
+                .description("How far past the minimum age the oldest unarchived completed task was")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /** Archives everything that is due, unless stopped early by pool pressure or shutdown. */
+    @Scheduled(fixedDelayString = "${todo.archive.interval:PT10M}", initialDelayString = "${todo.archive.interval:PT10M}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        LocalDateTime afterAt = null;
+        Long afterId = null;
+        long moved = 0;
+        try {
+            while (!stopping) {
+                if (poolWaiters() > 0) {
+                    log.debug("Pausing task archival while the connection pool is busy");
+                    break;
+                }
+                long started = System.nanoTime();
+                List<TaskCompletionState> batch =
+                        taskRepositoryTemplate.findArchivableTasks(cutoff, afterAt, afterId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = batch.stream().map(TaskCompletionState::id).toList();
+                int count = transactionTemplate.execute(status -> {
+                    int n = taskRepositoryTemplate.archiveTasks(ids);
+                    eventPublisher.publishEvent(new TasksArchivedEvent(ids));
+                    return n;
+                });
+                long elapsed = System.nanoTime() - started;
+                batches.record(elapsed, TimeUnit.NANOSECONDS);
+                archived.increment(count);
+                moved += count;
+
+                TaskCompletionState last = batch.get(batch.size() - 1);
+                afterAt = last.completedAt();
+                afterId = last.id();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.max(batchPause.toNanos(), elapsed));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Task archival stopped after {} tasks: {}", moved, ex.getMessage());
+        }
+        updateLag(cutoff);
+        if (moved > 0) {
+            log.info("Archived {} completed tasks older than {}", moved, cutoff);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+
+    private void updateLag(LocalDateTime cutoff) {
+        try {
+            LocalDateTime oldest = taskRepositoryTemplate.findOldestCompletionTime();
+            lagSeconds.set(oldest == null || !oldest.isBefore(cutoff) ? 0 : Duration.between(oldest, cutoff).toSeconds());
+        } catch (RuntimeException ex) {
+            log.warn("Could not measure task archival lag: {}", ex.getMessage());
+        }
+    }
+
+    private int poolWaiters() {
+        HikariDataSource dataSource = pool.getIfUnique();
+        HikariPoolMXBean stats = dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+        return stats != null ? stats.getThreadsAwaitingConnection() : 0;
+    }
+}
@@ -0,0 +1,444 @@
+package com.todoapp.todo_backend.business;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed task changes out to push subscribers such as the SSE stream.
+ *
+ * <p>Each change is serialized once and appended to a small replay log, then
+ * offered to every subscriber's bounded queue. Queues are drained by a shared
+ * dispatcher pool, so an idle subscriber costs a queue and no thread. When a
+ * queue overflows the {@link SlowConsumerPolicy} decides whether the subscriber
+ * is disconnected or told to resynchronise.</p>
+ *
+ * <p>Tasks created in one transaction go out as a single {@code created}
+ * change listing all of them, so a batch create or an import chunk takes one
+ * slot in each subscriber's buffer rather than one per task.</p>
+ *
+ * <p>A send that blocks for longer than {@code send-timeout} drops its
+ * subscriber. The thread stuck in that send is not counted against the pool:
+ * the dispatcher gets a replacement until the send returns, so stalled clients
+ * cannot hold up delivery to the others.</p>
+ *
+ * <p>Change ids have the form {@code <instance>-<sequence>}. A subscriber that
+ * resumes with an id from this instance that is still in the replay log gets
+ * the missed changes; anything older, or from another instance, gets a
+ * {@code reset} change telling it to reload.</p>
+ */
+@Component
+public class TaskChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    /** Marker sent on idle subscribers so proxies and browsers keep the connection open. */
+    public static final Change HEARTBEAT = new Change(null, null, null);
+
+    /** Tells a subscriber that changes were lost and its view must be reloaded. */
+    public static final Change RESET = new Change(null, "reset", "{}");
+
+    /** What to do with a subscriber whose buffer is full. */
+    public enum SlowConsumerPolicy {
+        /** Close the subscription; the client reconnects and resumes from the replay log. */
+        DISCONNECT,
+        /** Discard the buffered changes and queue a single {@link #RESET} in their place. */
+        DROP
+    }
+
+    /**
+     * A change as delivered to subscribers.
+     *
+     * @param id   resumable change id, or {@code null} for markers
+     * @param type {@code created}, {@code completed} or {@code reset}; {@code null} for heartbeats
+     * @param data JSON payload, serialized once for all subscribers
+     */
+    public record Change(String id, String type, String data) {
+    }
+
+    /** Transport a subscription writes to. Calls for one sink are never concurrent. */
+    public interface Sink {
+        void send(Change change) throws IOException;
+
+        void close();
+    }
+
+    /** {@link Subscription#sendStarted} while no send is in progress, and once a stalled send was given up on. */
+    private static final long NOT_SENDING = Long.MIN_VALUE;
+    private static final long ABANDONED = Long.MAX_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final int dispatcherThreads;
+    /** Dispatcher threads blocked in sends whose subscribers were dropped. */
+    private final AtomicInteger stalledSends = new AtomicInteger();
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Guarded by itself; held only while assigning ids and enqueueing, never while sending.
+    private final ArrayDeque<Change> replay = new ArrayDeque<>();
+    private long sequence;
+
+    @Value("${todo.stream.buffer-size:256}")
+    private int bufferSize = 256;
+
+    @Value("${todo.stream.replay-size:1000}")
+    private int replaySize = 1000;
+
+    @Value("${todo.stream.slow-consumer-policy:DISCONNECT}")
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DISCONNECT;
+
+    @Value("${todo.stream.send-timeout:PT5S}")
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    @Autowired
+    public TaskChangeFeed(ObjectMapper objectMapper,
+                          @Value("${todo.stream.dispatcher-threads:4}") int dispatcherThreads) {
+        this(objectMapper, newDispatcher(dispatcherThreads));
+    }
+
+    public TaskChangeFeed(ObjectMapper objectMapper, Executor dispatcher) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.dispatcherThreads = dispatcher instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+    }
+
+    /**
+     * Registers a subscriber. If {@code lastEventId} is given, changes after it are
+     * queued first, or a {@link #RESET} if they are no longer available.
+     */
+    public Subscription subscribe(String lastEventId, Sink sink) {
+        Subscription subscription = new Subscription(sink);
+        synchronized (replay) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Change> missed = replayAfter(lastEventId.trim());
+                if (missed == null || missed.size() > bufferSize) {
+                    subscription.offer(RESET);
+                } else {
+                    missed.forEach(subscription::offer);
+                }
+            }
+            subscribers.add(subscription);
+        }
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Collects the task until its transaction commits, then publishes it with the
+     * others created in that transaction. Outside a transaction it is published
+     * at once.
+     */
+    @EventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishCreated(List.of(event.task()));
+            return;
+        }
+        createdInTransaction().tasks.add(event.task());
+    }
+
+    @TransactionalEventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("ids", event.ids());
+        payload.put("completedAt", event.completedAt());
+        publish("completed", payload);
+    }
+
+    /** Queues a heartbeat on every subscriber with nothing else pending. */
+    @Scheduled(fixedDelayString = "${todo.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscribers) {
+            subscription.offerIfIdle(HEARTBEAT);
+        }
+    }
+
+    /** Drops every subscriber whose current send has been blocked for longer than {@code send-timeout}. */
+    @Scheduled(fixedDelayString = "${todo.stream.stall-check-interval:PT1S}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscribers) {
+            subscription.dropIfStalled(now, sendTimeout.toNanos());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscription::cancel);
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private void publishCreated(List<TaskResponseDto> tasks) {
+        publish("created", Map.of("tasks", tasks));
+    }
+
+    /** The current transaction's pending creations, registered on first use. */
+    private CreatedInTransaction createdInTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof CreatedInTransaction created && created.feed() == this) {
+                return created;
+            }
+        }
+        CreatedInTransaction created = new CreatedInTransaction();
+        TransactionSynchronizationManager.registerSynchronization(created);
+        return created;
+    }
+
+    private void publish(String type, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize {} change: {}", type, ex.getMessage());
+            return;
+        }
+        synchronized (replay) {
+            Change change = new Change(instance + "-" + ++sequence, type, data);
+            replay.addLast(change);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscription subscription : subscribers) {
+                subscription.offer(change);
+            }
+        }
+    }
+
+    /** Changes after {@code lastEventId}, or {@code null} if some of them are gone. Caller holds the lock. */
+    private List<Change> replayAfter(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(instance)) {
+            return null;
+        }
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        long oldest = sequence - replay.size() + 1;
+        if (after > sequence || after < oldest - 1) {
+            return null;
+        }
+        List<Change> missed = new ArrayList<>((int) (sequence - after));
+        Iterator<Change> it = replay.descendingIterator();
+        for (long seq = sequence; seq > after; seq--) {
+            missed.add(it.next());
+        }
+        Collections.reverse(missed);
+        return missed;
+    }
+
+    /** Sizes a pooled dispatcher to its configured threads plus one for every stalled send. */
+    private void resizeDispatcher() {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        synchronized (pool) {
+            int size = dispatcherThreads + stalledSends.get();
+            // The core size may never exceed the maximum, so grow the maximum first and shrink it last.
+            if (size > pool.getMaximumPoolSize()) {
+                pool.setMaximumPoolSize(size);
+                pool.setCorePoolSize(size);
+            } else {
+                pool.setCorePoolSize(size);
+                pool.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private static ExecutorService newDispatcher(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "task-feed-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Tasks created in one transaction; published together once it commits, dropped on rollback. */
+    private final class CreatedInTransaction implements TransactionSynchronization {
+        private final List<TaskResponseDto> tasks = new ArrayList<>();
+
+        TaskChangeFeed feed() {
+            return TaskChangeFeed.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            publishCreated(tasks);
+        }
+    }
+
+    /** One subscriber's bounded queue. At most one dispatcher task drains it at a time. */
+    public final class Subscription {
+        private final Sink sink;
+        private final ArrayDeque<Change> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        /** {@link System#nanoTime()} at which the current send started. */
+        private final AtomicLong sendStarted = new AtomicLong(NOT_SENDING);
+
+        private Subscription(Sink sink) {
+            this.sink = sink;
+        }
+
+        /** Stops delivery and closes the sink. Safe to call more than once. */
+        public void cancel() {
+            if (closed.compareAndSet(false, true)) {
+                synchronized (queue) {
+                    queue.clear();
+                }
+                release();
+            }
+        }
+
+        private void release() {
+            subscribers.remove(this);
+            sink.close();
+        }
+
+        void offer(Change change) {
+            synchronized (queue) {
+                if (closed.get()) {
+                    return;
+                }
+                if (queue.size() >= bufferSize) {
+                    if (slowConsumerPolicy == SlowConsumerPolicy.DROP) {
+                        queue.clear();
+                        queue.addLast(RESET);
+                    } else {
+                        // Close outside the publisher's locks; the sink may do I/O.
+                        closed.set(true);
+                        queue.clear();
+                        dispatcher.execute(this::release);
+                        return;
+                    }
+                } else {
+                    queue.addLast(change);
+                }
+            }
+            schedule();
+        }
+
+        void offerIfIdle(Change change) {
+            synchronized (queue) {
+                if (closed.get() || !queue.isEmpty() || draining.get()) {
+                    return;
+                }
+                queue.addLast(change);
+            }
+            schedule();
+        }
+
+        /**
+         * Drops the subscription if its current send started before the deadline.
+         * The sink is closed by the dispatcher thread once the send returns, since
+         * calls for one sink must not overlap.
+         */
+        void dropIfStalled(long now, long timeoutNanos) {
+            long started = sendStarted.get();
+            if (started == NOT_SENDING || started == ABANDONED || now - started < timeoutNanos) {
+                return;
+            }
+            // Counted before the claim, so the sender's decrement can never come first.
+            stalledSends.incrementAndGet();
+            if (!sendStarted.compareAndSet(started, ABANDONED)) {
+                stalledSends.decrementAndGet();
+                return;
+            }
+            log.debug("Dropping change subscriber stalled in a send for over {}", sendTimeout);
+            synchronized (queue) {
+                closed.set(true);
+                queue.clear();
+            }
+            subscribers.remove(this);
+            resizeDispatcher();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    Change next;
+                    synchronized (queue) {
+                        next = queue.pollFirst();
+                        if (next == null || closed.get()) {
+                            draining.set(false);
+                            return;
+                        }
+                    }
+                    if (!send(next)) {
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Dropping change subscriber: {}", ex.getMessage());
+                draining.set(false);
+                cancel();
+            }
+        }
+
+        /** Sends one change; {@code false} if the subscription was dropped as stalled meanwhile. */
+        private boolean send(Change change) throws IOException {
+            long started = System.nanoTime();
+            sendStarted.set(started);
+            boolean abandoned = false;
+            try {
+                sink.send(change);
+            } finally {
+                if (!sendStarted.compareAndSet(started, NOT_SENDING)) {
+                    abandoned = true;
+                    stalledSends.decrementAndGet();
+                    resizeDispatcher();
+                    draining.set(false);
+                    sink.close();
+                }
+            }
+            return !abandoned;
+        }
+    }
+}
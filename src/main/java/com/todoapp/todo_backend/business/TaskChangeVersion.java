@@ -0,0 +1,33 @@
+package com.todoapp.todo_backend.business;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Version stamp of the latest-task listings, used for conditional GETs.
+ *
+ * <p>The counter is seeded with the startup time in milliseconds, so a restarted
+ * instance never hands out an ETag that an earlier instance used for different
+ * content. {@code changedAt} is kept at second precision to match the
+ * {@code Last-Modified} header.</p>
+ *
+ * @param value     monotonically increasing change counter
+ * @param changedAt time of the last change
+ */
+public record TaskChangeVersion(long value, Instant changedAt) {
+
+    public static TaskChangeVersion initial() {
+        Instant now = Instant.now();
+        return new TaskChangeVersion(now.toEpochMilli(), now.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public TaskChangeVersion next() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        return new TaskChangeVersion(value + 1, now.isAfter(changedAt) ? now : changedAt);
+    }
+
+    /** Strong ETag for the listing identified by {@code scope}, including the quotes. */
+    public String etag(String scope) {
+        return "\"" + scope + "-" + value + "\"";
+    }
+}
@@ -0,0 +1,34 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last task on a page in a keyset-paginated listing.
+ *
+ * <p>A listing is ordered by a timestamp and then by id, both descending, so
+ * the pair uniquely identifies where the next page starts. Clients only see
+ * the opaque URL-safe token produced by {@link #encode()}.</p>
+ */
+public record TaskCursor(LocalDateTime at, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new TaskCursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
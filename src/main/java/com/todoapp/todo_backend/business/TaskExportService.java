@@ -0,0 +1,67 @@
+package com.todoapp.todo_backend.business;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the task table as newline-delimited JSON.
+ *
+ * <p>Rows are read through a forward-only cursor and written one at a time, so
+ * memory use does not depend on how many tasks are exported.</p>
+ */
+@Service
+public class TaskExportService {
+
+    /** Rows written between explicit flushes, so clients see progress on long exports. */
+    private static final int FLUSH_EVERY = 500;
+
+    private final TaskRepositoryTemplate taskRepositoryTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+
+    public TaskExportService(TaskRepositoryTemplate taskRepositoryTemplate, ObjectMapper objectMapper) {
+        this.taskRepositoryTemplate = taskRepositoryTemplate;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every task matching the optional filters to {@code out}, one JSON
+     * object per line, in id order.
+     *
+     * @return the number of tasks written
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo,
+                            OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<Task> tasks = taskRepositoryTemplate.streamTasks(completed, createdFrom, createdTo);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are terminated explicitly below; drop the default space between root values.
+            generator.setRootValueSeparator(null);
+            Iterator<Task> it = tasks.iterator();
+            while (it.hasNext()) {
+                lineWriter.writeValue(generator, TaskService.mapToResponseDto(it.next()));
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return written;
+    }
+}
@@ -0,0 +1,330 @@
+package com.todoapp.todo_backend.business;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportRejectionDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from an NDJSON or CSV body without buffering it.
+ *
+ * <p>The body is read one record at a time and valid records are committed in
+ * fixed-size chunks through {@link TaskService#createTasks}. The next chunk is
+ * only read once the previous one has committed, so a slow database slows the
+ * upload down instead of letting records pile up in memory. A failing chunk is
+ * reported as rejected and never rolls back chunks committed before it.</p>
+ *
+ * <p>No record is held beyond {@link #MAX_RECORD_LENGTH} characters. A longer
+ * NDJSON line, or a CSV record that grows past it (typically an unterminated
+ * quote), is rejected and reading resumes at the next line.</p>
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    /**
+     * Longest record kept in memory: the title and description limits with room
+     * for quoting, escapes and the JSON keys.
+     */
+    public static final int MAX_RECORD_LENGTH =
+            4 * (TaskRequestDto.MAX_TITLE_LENGTH + TaskRequestDto.MAX_DESCRIPTION_LENGTH);
+
+    /** Supported upload formats. */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format from(MediaType contentType) {
+            return TEXT_CSV.isCompatibleWith(contentType) ? CSV : NDJSON;
+        }
+    }
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${todo.import.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${todo.import.max-reported-rejections:1000}")
+    private int maxReportedRejections = 1000;
+
+    public TaskImportService(TaskService taskService, ObjectMapper objectMapper, Validator validator) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public TaskImportSummaryDto importTasks(InputStream body, Format format) throws IOException {
+        long started = System.nanoTime();
+        Summary summary = new Summary();
+        List<TaskRequestDto> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RecordReader records = format == Format.CSV ? new CsvRecordReader(reader) : new NdjsonRecordReader(reader);
+        for (ParsedRecord record = records.next(); record != null; record = records.next()) {
+            if (record.error() != null) {
+                summary.reject(record.line(), record.error());
+                continue;
+            }
+            String violation = validate(record.task());
+            if (violation != null) {
+                summary.reject(record.line(), violation);
+                continue;
+            }
+            chunk.add(record.task());
+            chunkLines.add(record.line());
+            if (chunk.size() == chunkSize) {
+                commit(chunk, chunkLines, summary);
+            }
+        }
+        commit(chunk, chunkLines, summary);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        return new TaskImportSummaryDto(summary.accepted, summary.rejected, summary.rejections,
+                summary.rejected > summary.rejections.size(), elapsedMillis);
+    }
+
+    private void commit(List<TaskRequestDto> chunk, List<Long> chunkLines, Summary summary) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            taskService.createTasks(List.copyOf(chunk));
+            summary.accepted += chunk.size();
+        } catch (RuntimeException ex) {
+            log.warn("Import chunk starting at line {} failed: {}", chunkLines.get(0), ex.getMessage());
+            for (Long line : chunkLines) {
+                summary.reject(line, "Chunk could not be saved: " + ex.getMessage());
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private String validate(TaskRequestDto task) {
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(task);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private class Summary {
+        long accepted;
+        long rejected;
+        final List<TaskImportRejectionDto> rejections = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rejected++;
+            if (rejections.size() < maxReportedRejections) {
+                rejections.add(new TaskImportRejectionDto(line, reason));
+            }
+        }
+    }
+
+    /** A decoded record, or the reason it could not be decoded, tagged with its starting line. */
+    private record ParsedRecord(long line, TaskRequestDto task, String error) {
+    }
+
+    private interface RecordReader {
+        /** Returns the next record, or {@code null} at end of input. */
+        ParsedRecord next() throws IOException;
+    }
+
+    /**
+     * Splits the body into lines ending in LF, CRLF or CR, keeping at most a
+     * given number of characters of each; the rest of a longer line is skipped.
+     */
+    private static final class LineReader {
+        private final Reader in;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+        private boolean truncated;
+
+        LineReader(Reader in) {
+            this.in = in;
+        }
+
+        /** Returns the next line without its terminator, or {@code null} at end of input. */
+        String readLine(int maxLength) throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean started = false;
+            while (true) {
+                if (position == limit) {
+                    int read = in.read(buffer, 0, buffer.length);
+                    if (read <= 0) {
+                        return started ? line.toString() : null;
+                    }
+                    position = 0;
+                    limit = read;
+                }
+                char c = buffer[position++];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                started = true;
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = c == '\r';
+                    return line.toString();
+                }
+                if (line.length() < maxLength) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        /** Whether the last line read was longer than the requested maximum. */
+        boolean truncated() {
+            return truncated;
+        }
+    }
+
+    private class NdjsonRecordReader implements RecordReader {
+        private final LineReader reader;
+        private long lineNo;
+
+        NdjsonRecordReader(LineReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String line;
+            while ((line = reader.readLine(MAX_RECORD_LENGTH)) != null) {
+                lineNo++;
+                if (reader.truncated()) {
+                    return new ParsedRecord(lineNo, null, "Line longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRecord(lineNo, objectMapper.readValue(line, TaskRequestDto.class), null);
+                } catch (JsonProcessingException ex) {
+                    return new ParsedRecord(lineNo, null, "Malformed JSON: " + ex.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Reads RFC 4180 style records with the columns {@code title,description}.
+     * A header row with those names is skipped, and quoted fields may span lines.
+     */
+    private static class CsvRecordReader implements RecordReader {
+        private static final String TOO_LONG = "Record longer than " + MAX_RECORD_LENGTH + " characters";
+
+        private final LineReader reader;
+        private long lineNo;
+        private boolean firstRecord = true;
+
+        CsvRecordReader(LineReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String line;
+            while ((line = reader.readLine(MAX_RECORD_LENGTH)) != null) {
+                lineNo++;
+                long startLine = lineNo;
+                if (reader.truncated()) {
+                    return new ParsedRecord(startLine, null, TOO_LONG);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                int length = line.length();
+                List<String> fields = new ArrayList<>(2);
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                while (true) {
+                    for (int i = 0; i < line.length(); i++) {
+                        char c = line.charAt(i);
+                        if (quoted) {
+                            if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                field.append('"');
+                                i++;
+                            } else if (c == '"') {
+                                quoted = false;
+                            } else {
+                                field.append(c);
+                            }
+                        } else if (c == '"') {
+                            quoted = true;
+                        } else if (c == ',') {
+                            fields.add(field.toString());
+                            field.setLength(0);
+                        } else {
+                            field.append(c);
+                        }
+                    }
+                    if (!quoted) {
+                        break;
+                    }
+                    // The quote may never close: stop at the record limit and resume after this line.
+                    line = reader.readLine(MAX_RECORD_LENGTH - length);
+                    if (line == null) {
+                        return new ParsedRecord(startLine, null, "Unterminated quoted field");
+                    }
+                    lineNo++;
+                    length += line.length() + 1;
+                    if (reader.truncated() || length > MAX_RECORD_LENGTH) {
+                        return new ParsedRecord(startLine, null, TOO_LONG);
+                    }
+                    field.append('\n');
+                }
+                fields.add(field.toString());
+
+                boolean header = firstRecord && "title".equalsIgnoreCase(fields.get(0).trim());
+                firstRecord = false;
+                if (header) {
+                    continue;
+                }
+                if (fields.size() > 2) {
+                    return new ParsedRecord(startLine, null, "Expected at most 2 columns (title,description) but found " + fields.size());
+                }
+                TaskRequestDto task = new TaskRequestDto();
+                task.setTitle(fields.get(0));
+                task.setDescription(fields.size() > 1 && !fields.get(1).isEmpty() ? fields.get(1) : null);
+                return new ParsedRecord(startLine, task, null);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Business counters for the task API.
+ *
+ * <p>Driven by the after-commit task events, so rolled-back writes are never
+ * counted and the request path pays nothing beyond publishing the event.</p>
+ */
+@Component
+public class TaskMetrics {
+
+    private final Counter created;
+    private final Counter completed;
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.created = Counter.builder("tasks.created")
+                .description("Tasks created")
+                .register(registry);
+        this.completed = Counter.builder("tasks.completed")
+                .description("Tasks marked completed")
+                .register(registry);
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        created.increment();
+    }
+
+    @TransactionalEventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        completed.increment(event.ids().size());
+    }
+}
@@ -0,0 +1,427 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.config.ReadWriteRoutingDataSource;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ *
+ * <p>Built once at startup by streaming the task table, then kept current by
+ * the after-commit task events. Text is split on anything that is not a letter
+ * or digit and lower-cased. Each term maps to a sorted {@code long[]} of
+ * postings; a posting packs the task id into the upper bits and a weight (title
+ * occurrences count {@value #TITLE_WEIGHT}x, capped at 255) into the low byte,
+ * so a posting list costs eight bytes per task and no objects.</p>
+ *
+ * <p>All words of a query must match. The last word, and any word ending in
+ * {@code *}, matches as a prefix. Results are ranked by summed weight times
+ * inverse document frequency, newest task first on ties. Only writes made
+ * through this instance are seen; tasks written by another instance appear
+ * after its next restart.</p>
+ *
+ * <p>Archived tasks are dropped from results right away; their postings are
+ * only reclaimed when the index is rebuilt at the next startup.</p>
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int WEIGHT_BITS = 8;
+    private static final int MAX_WEIGHT = (1 << WEIGHT_BITS) - 1;
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private final TaskRepositoryTemplate taskRepositoryTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final IdSet indexed = new IdSet();
+    private final IdSet completed = new IdSet();
+
+    public TaskSearchIndex(TaskRepositoryTemplate taskRepositoryTemplate) {
+        this.taskRepositoryTemplate = taskRepositoryTemplate;
+    }
+
+    /**
+     * Indexes every existing task. Reads the primary so no committed task is
+     * missed because a replica lags; tasks created meanwhile arrive through the
+     * events and are not indexed twice.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long started = System.nanoTime();
+        long count = 0;
+        try (Stream<Task> tasks = ReadWriteRoutingDataSource.onPrimary(
+                () -> taskRepositoryTemplate.streamTasks(null, null, null))) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                add(task.getId(), task.getTitle(), task.getDescription(), Boolean.TRUE.equals(task.getCompleted()));
+                count++;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not build task search index after {} tasks: {}", count, ex.getMessage());
+            return;
+        }
+        log.info("Indexed {} tasks for search in {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        TaskResponseDto task = event.task();
+        add(task.getId(), task.getTitle(), task.getDescription(), task.getCompletedAt() != null);
+    }
+
+    @TransactionalEventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.ids().forEach(completed::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.ids().forEach(indexed::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds or re-indexes one task. Completion is only ever set, never cleared. */
+    public void add(long id, String title, String description, boolean isCompleted) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(title)) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            weights.merge(term, 1, Integer::sum);
+        }
+        lock.writeLock().lock();
+        try {
+            weights.forEach((term, weight) ->
+                    terms.computeIfAbsent(term, t -> new Postings()).add(id, Math.min(weight, MAX_WEIGHT)));
+            indexed.add(id);
+            if (isCompleted) {
+                completed.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching tasks, best first.
+     *
+     * @param query       words to match; the last one and any ending in {@code *} match as prefixes
+     * @param isCompleted keep only completed ({@code true}) or incomplete ({@code false}) tasks; {@code null} for both
+     * @param limit       maximum number of ids returned
+     */
+    public List<Long> search(String query, Boolean isCompleted, int limit) {
+        List<QueryTerm> parsed = parse(query);
+        if (parsed.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Matches matches = null;
+            for (QueryTerm term : parsed) {
+                Matches termMatches = term.prefix() ? prefixMatches(term.text()) : exactMatches(term.text());
+                matches = matches == null ? termMatches : matches.intersect(termMatches);
+                if (matches.size == 0) {
+                    return List.of();
+                }
+            }
+            return top(matches, isCompleted, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of distinct terms in the index. */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Matches exactMatches(String term) {
+        Postings postings = terms.get(term);
+        return postings == null ? Matches.EMPTY : postings.matches(idf(postings));
+    }
+
+    private Matches prefixMatches(String prefix) {
+        List<Matches> expansions = new ArrayList<>();
+        for (Postings postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            expansions.add(postings.matches(idf(postings)));
+        }
+        return Matches.union(expansions, 0, expansions.size());
+    }
+
+    private double idf(Postings postings) {
+        return Math.log(1 + (double) indexed.size() / postings.size);
+    }
+
+    private List<Long> top(Matches matches, Boolean isCompleted, int limit) {
+        // Min-heap on (score, id): the weakest of the current best sits on top.
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int byScore = Double.compare(matches.scores[a], matches.scores[b]);
+            return byScore != 0 ? byScore : Long.compare(matches.ids[a], matches.ids[b]);
+        });
+        for (int i = 0; i < matches.size; i++) {
+            if (!indexed.contains(matches.ids[i])) {
+                // Archived since it was indexed.
+                continue;
+            }
+            if (isCompleted != null && completed.contains(matches.ids[i]) != isCompleted) {
+                continue;
+            }
+            best.add(i);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        Long[] ids = new Long[best.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = matches.ids[best.poll()];
+        }
+        return Arrays.asList(ids);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start <= MAX_TERM_LENGTH) {
+                    tokens.add(lower.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static List<QueryTerm> parse(String query) {
+        List<QueryTerm> parsed = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return parsed;
+        }
+        String[] words = query.trim().split("\\s+");
+        boolean stillTyping = !Character.isWhitespace(query.charAt(query.length() - 1));
+        for (int w = 0; w < words.length; w++) {
+            List<String> tokens = tokenize(words[w]);
+            boolean prefix = words[w].endsWith("*") || (stillTyping && w == words.length - 1);
+            for (int t = 0; t < tokens.size(); t++) {
+                parsed.add(new QueryTerm(tokens.get(t), prefix && t == tokens.size() - 1));
+            }
+        }
+        return parsed;
+    }
+
+    private record QueryTerm(String text, boolean prefix) {
+    }
+
+    /** Sorted postings of one term: {@code id << 8 | weight}, ascending by id. */
+    private static final class Postings {
+        private long[] entries = new long[4];
+        private int size;
+
+        void add(long id, int weight) {
+            long entry = id << WEIGHT_BITS | weight;
+            if (size == 0 || id > entries[size - 1] >>> WEIGHT_BITS) {
+                grow();
+                entries[size++] = entry;
+                return;
+            }
+            // Out of order: an id from another allocation block, or one seen by both the build and an event.
+            int at = find(id);
+            if (at >= 0) {
+                entries[at] = entry;
+                return;
+            }
+            int insert = -at - 1;
+            grow();
+            System.arraycopy(entries, insert, entries, insert + 1, size - insert);
+            entries[insert] = entry;
+            size++;
+        }
+
+        Matches matches(double idf) {
+            Matches matches = new Matches(size);
+            for (int i = 0; i < size; i++) {
+                matches.ids[i] = entries[i] >>> WEIGHT_BITS;
+                matches.scores[i] = (entries[i] & MAX_WEIGHT) * idf;
+            }
+            matches.size = size;
+            return matches;
+        }
+
+        private int find(long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midId = entries[mid] >>> WEIGHT_BITS;
+                if (midId < id) {
+                    low = mid + 1;
+                } else if (midId > id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void grow() {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length + (entries.length >> 1));
+            }
+        }
+    }
+
+    /** Scored candidate ids, ascending by id, as parallel primitive arrays. */
+    private static final class Matches {
+        static final Matches EMPTY = new Matches(0);
+
+        final long[] ids;
+        final double[] scores;
+        int size;
+
+        Matches(int capacity) {
+            ids = new long[capacity];
+            scores = new double[capacity];
+        }
+
+        /** Ids present in both, scores summed. */
+        Matches intersect(Matches other) {
+            Matches result = new Matches(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    result.append(ids[i], scores[i++] + other.scores[j++]);
+                }
+            }
+            return result;
+        }
+
+        /** Ids present in either, scores summed; merged pairwise so the cost grows with log(list count). */
+        static Matches union(List<Matches> lists, int from, int to) {
+            if (to - from == 0) {
+                return EMPTY;
+            }
+            if (to - from == 1) {
+                return lists.get(from);
+            }
+            int mid = (from + to) >>> 1;
+            Matches left = union(lists, from, mid);
+            Matches right = union(lists, mid, to);
+            Matches result = new Matches(left.size + right.size);
+            int i = 0;
+            int j = 0;
+            while (i < left.size || j < right.size) {
+                if (j == right.size || (i < left.size && left.ids[i] < right.ids[j])) {
+                    result.append(left.ids[i], left.scores[i++]);
+                } else if (i == left.size || right.ids[j] < left.ids[i]) {
+                    result.append(right.ids[j], right.scores[j++]);
+                } else {
+                    result.append(left.ids[i], left.scores[i++] + right.scores[j++]);
+                }
+            }
+            return result;
+        }
+
+        private void append(long id, double score) {
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+    }
+
+    /** Set of task ids; sequence-generated ids are small and dense, so a bitmap with a spill-over for the rest. */
+    private static final class IdSet {
+        private final BitSet bits = new BitSet();
+        private final Set<Long> large = new HashSet<>();
+        private int size;
+
+        void add(long id) {
+            if (contains(id)) {
+                return;
+            }
+            if (id >= 0 && id < Integer.MAX_VALUE) {
+                bits.set((int) id);
+            } else {
+                large.add(id);
+            }
+            size++;
+        }
+
+        void remove(long id) {
+            if (!contains(id)) {
+                return;
+            }
+            if (id >= 0 && id < Integer.MAX_VALUE) {
+                bits.clear((int) id);
+            } else {
+                large.remove(id);
+            }
+            size--;
+        }
+
+        boolean contains(long id) {
+            return id >= 0 && id < Integer.MAX_VALUE ? bits.get((int) id) : large.contains(id);
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -1,15 +1,34 @@
 package com.todoapp.todo_backend.business;
 
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.config.ReadWriteRoutingDataSource;
 import com.todoapp.todo_backend.exception.ResourceNotFoundException;
 import com.todoapp.todo_backend.models.Task;
 import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
 import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
 import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -18,49 +37,256 @@ import java.util.stream.Collectors;
  * <p>This class enforces business policies, coordinates persistence operations,
  * transforms domain entities into DTOs, and ensures the application layer
  * remains free from HTTP or database-specific details.</p>
+ *
+ * <p>The latest-task listings are served from {@link LatestTasksCache}; every
+ * write publishes an event that keeps the cache current once it commits.
+ * Cache loads always read the primary: with read replicas enabled, a load from
+ * a lagging replica would install a baseline missing the write that triggered
+ * it, and no later event would correct it. Paged reads and exports go to a
+ * replica.</p>
  */
 @Service
 public class TaskService {
 
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
     private final TaskRepositoryTemplate taskRepositoryTemplate;
+    private final LatestTasksCache latestTasksCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${todo.pagination.default-size:20}")
+    private int defaultPageSize = 20;
 
-    public TaskService(TaskRepositoryTemplate taskRepositoryTemplate) {
+    @Value("${todo.pagination.max-size:100}")
+    private int maxPageSize = 100;
+
+    public TaskService(TaskRepositoryTemplate taskRepositoryTemplate,
+                       LatestTasksCache latestTasksCache,
+                       TaskSearchIndex taskSearchIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.taskRepositoryTemplate = taskRepositoryTemplate;
+        this.latestTasksCache = latestTasksCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponseDto> getLatestTasks() {
-        List<Task> tasks= taskRepositoryTemplate.getLatestCompletedTasks();
-        return tasks.stream().map(this::mapToResponseDto).collect(Collectors.toList());
+        return latestTasksCache.getCompleted(
+                () -> ReadWriteRoutingDataSource.onPrimary(taskRepositoryTemplate::getLatestCompletedTaskDtos));
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponseDto> getLatestInCompleted() {
-        List<Task> tasks= taskRepositoryTemplate.getLatestInCompletedTasks();
-        return tasks.stream().map(this::mapToResponseDto).collect(Collectors.toList());
+        return latestTasksCache.getInCompleted(
+                () -> ReadWriteRoutingDataSource.onPrimary(taskRepositoryTemplate::getLatestInCompletedTaskDtos));
+    }
+
+    /**
+     * Loads one task by id. The lookup goes through the persistence context, so
+     * it is answered by the {@link Task} second-level cache when enabled.
+     *
+     * @throws ResourceNotFoundException if no task has the given id
+     */
+    @Transactional(readOnly = true)
+    public TaskResponseDto getTask(Long id) {
+        return taskRepositoryTemplate.findByTaskId(id)
+                .map(TaskService::mapToResponseDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    /**
+     * Returns the change version of the latest-task listings. It advances once
+     * a task creation or completion has committed, and is cheap enough to check
+     * on every poll before loading or serializing anything.
+     */
+    public TaskChangeVersion getChangeVersion() {
+        return latestTasksCache.version();
+    }
+
+    /**
+     * Returns one page of completed tasks, newest completion first.
+     *
+     * @param cursor token from the previous page, or {@code null} for the first page
+     * @param size   requested page size; clamped to the configured maximum
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getCompletedPage(String cursor, Integer size) {
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        int limit = pageSize(size);
+        List<TaskResponseDto> rows = taskRepositoryTemplate.getCompletedPage(
+                after == null ? null : after.at(), after == null ? null : after.id(), limit + 1);
+        return toPage(rows, limit, TaskResponseDto::getCompletedAt);
+    }
+
+    /**
+     * Returns one page of incomplete tasks, newest first.
+     *
+     * @param cursor token from the previous page, or {@code null} for the first page
+     * @param size   requested page size; clamped to the configured maximum
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getInCompletedPage(String cursor, Integer size) {
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        int limit = pageSize(size);
+        List<TaskResponseDto> rows = taskRepositoryTemplate.getInCompletedPage(
+                after == null ? null : after.at(), after == null ? null : after.id(), limit + 1);
+        return toPage(rows, limit, TaskResponseDto::getCreatedAt);
+    }
+
+    /**
+     * Full-text search over titles and descriptions, best match first. Matching
+     * and ranking run against {@link TaskSearchIndex}; only the hits are loaded
+     * from the database.
+     *
+     * @param query     words to match; the last one matches as a prefix
+     * @param completed restrict to completed or incomplete tasks; {@code null} for both
+     * @param limit     maximum number of results; clamped to the configured maximum page size
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> searchTasks(String query, Boolean completed, Integer limit) {
+        List<Long> ids = taskSearchIndex.search(query, completed, pageSize(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskResponseDto> byId = new HashMap<>();
+        for (TaskResponseDto dto : taskRepositoryTemplate.findTaskDtosByIds(ids)) {
+            byId.put(dto.getId(), dto);
+        }
+        List<TaskResponseDto> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskResponseDto dto = byId.get(id);
+            // The row is authoritative if a completion landed after the index was consulted.
+            if (dto != null && (completed == null || completed == (dto.getCompletedAt() != null))) {
+                results.add(dto);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Loads both latest-task lists once the application is ready so the first
+     * dashboard poll is already a memory read. Failures are logged and left for
+     * the next request to retry.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmLatestTasksCache() {
+        try {
+            getLatestTasks();
+            getLatestInCompleted();
+        } catch (RuntimeException ex) {
+            log.warn("Could not warm latest tasks cache: {}", ex.getMessage());
+        }
     }
 
     @Transactional
     public TaskResponseDto createTask(TaskRequestDto dto) {
-        Task task = new Task();
-        task.setTitle(dto.getTitle());
-        task.setDescription(dto.getDescription());
-        task.setCompleted(false);
-        task.setCreatedAt(LocalDateTime.now());
-        return mapToResponseDto(taskRepositoryTemplate.save(task));
+        TaskResponseDto created = mapToResponseDto(taskRepositoryTemplate.save(newTask(dto, LocalDateTime.now())));
+        eventPublisher.publishEvent(new TaskCreatedEvent(created));
+        return created;
     }
 
+    /**
+     * Creates all tasks in a single transaction using batched inserts.
+     * The returned DTOs are in the same order as the requests.
+     */
+    @Transactional
+    public List<TaskResponseDto> createTasks(List<TaskRequestDto> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(dtos.size());
+        for (TaskRequestDto dto : dtos) {
+            tasks.add(newTask(dto, now));
+        }
+        List<TaskResponseDto> created = taskRepositoryTemplate.saveAll(tasks).stream()
+                .map(TaskService::mapToResponseDto)
+                .collect(Collectors.toList());
+        created.forEach(task -> eventPublisher.publishEvent(new TaskCreatedEvent(task)));
+        return created;
+    }
+
+    /**
+     * Completes a single task with one direct UPDATE. Completing a task that is
+     * already done is a no-op; only an unknown id is reported as not found.
+     */
     @Transactional
     public void markDone(Long id) {
-        Task task = taskRepositoryTemplate.findByTaskId(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        task.setCompleted(true);
-        task.setCompletedAt(LocalDateTime.now());
-        taskRepositoryTemplate.save(task);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (taskRepositoryTemplate.markCompleted(List.of(id), now) == 1) {
+            eventPublisher.publishEvent(new TaskCompletedEvent(List.of(id), now));
+        } else if (!taskRepositoryTemplate.existsByTaskId(id)) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+    }
+
+    /**
+     * Completes many tasks with set-based updates and reports, per id, whether
+     * it was completed now, was already completed, or does not exist. When every
+     * id was updated the classification query is skipped entirely.
+     */
+    @Transactional
+    public TaskCompletionResultDto markDone(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        // Truncated to the column precision so rows stamped by this call can be recognised.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = taskRepositoryTemplate.markCompleted(requested, now);
+
+        List<Long> completed = new ArrayList<>();
+        List<Long> alreadyCompleted = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        if (updated == requested.size()) {
+            completed.addAll(requested);
+        } else {
+            Map<Long, LocalDateTime> completedAtById = new HashMap<>();
+            for (TaskCompletionState state : taskRepositoryTemplate.findCompletionStates(requested)) {
+                completedAtById.put(state.id(), state.completedAt());
+            }
+            for (Long id : requested) {
+                if (!completedAtById.containsKey(id)) {
+                    missing.add(id);
+                } else if (now.equals(completedAtById.get(id))) {
+                    completed.add(id);
+                } else {
+                    alreadyCompleted.add(id);
+                }
+            }
+        }
+        if (!completed.isEmpty()) {
+            eventPublisher.publishEvent(new TaskCompletedEvent(List.copyOf(completed), now));
+        }
+        return new TaskCompletionResultDto(completed, alreadyCompleted, missing);
+    }
+
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    /** Trims the look-ahead row and derives the next cursor from the last row kept. */
+    private TaskPageResponseDto toPage(List<TaskResponseDto> rows, int limit,
+                                       Function<TaskResponseDto, LocalDateTime> sortKey) {
+        if (rows.size() <= limit) {
+            return new TaskPageResponseDto(rows, null);
+        }
+        List<TaskResponseDto> items = rows.subList(0, limit);
+        TaskResponseDto last = items.get(limit - 1);
+        return new TaskPageResponseDto(items, new TaskCursor(sortKey.apply(last), last.getId()).encode());
     }
 
+    private Task newTask(TaskRequestDto dto, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setCompleted(false);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
 
-    private TaskResponseDto mapToResponseDto(Task task) {
+    static TaskResponseDto mapToResponseDto(Task task) {
         TaskResponseDto responseDto = new TaskResponseDto();
         responseDto.setId(task.getId());
         responseDto.setTitle(task.getTitle());
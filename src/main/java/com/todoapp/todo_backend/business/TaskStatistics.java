@@ -0,0 +1,251 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.config.ReadWriteRoutingDataSource;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCountBucketDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskStatsDto;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Task counts, recent completion rates and mean time-to-complete, kept in memory.
+ *
+ * <p>Counters are striped {@link LongAdder}s and the per-hour and per-day
+ * completion windows are ring buffers of time buckets. All of them are updated
+ * from the after-commit events that {@link TaskService} publishes on every
+ * write, so serving {@code /api/tasks/stats} never touches the database.</p>
+ *
+ * <p>Completion events carry no creation times. To keep the completion path a
+ * single UPDATE, completions are queued, and their creation times are read
+ * with one id lookup per {@code resolve-interval}. The mean therefore trails
+ * the counts by at most that interval.</p>
+ *
+ * <p>At startup and every {@code reconcile-interval}, everything is reset from
+ * aggregate queries, which corrects drift from writes made by other instances
+ * or racing with the previous reconciliation.</p>
+ */
+@Component
+public class TaskStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+    static final int HOURS = 48;
+    static final int DAYS = 30;
+
+    private final TaskRepositoryTemplate taskRepositoryTemplate;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder completionSeconds = new LongAdder();
+    private final LongAdder timedCompletions = new LongAdder();
+    private final RollingCounter perHour = new RollingCounter(ChronoUnit.HOURS, HOURS);
+    private final RollingCounter perDay = new RollingCounter(ChronoUnit.DAYS, DAYS);
+    private final Queue<TaskCompletedEvent> unresolved = new ConcurrentLinkedQueue<>();
+    private final Object maintenance = new Object();
+
+    private volatile LocalDateTime reconciledAt;
+
+    public TaskStatistics(TaskRepositoryTemplate taskRepositoryTemplate) {
+        this.taskRepositoryTemplate = taskRepositoryTemplate;
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        total.increment();
+    }
+
+    @TransactionalEventListener
+    public void onTaskCompleted(TaskCompletedEvent event) {
+        int count = event.ids().size();
+        completed.add(count);
+        perHour.add(event.completedAt(), count);
+        perDay.add(event.completedAt(), count);
+        unresolved.add(event);
+    }
+
+    public TaskStatsDto snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        long totalCount = total.sum();
+        long completedCount = completed.sum();
+        long timed = timedCompletions.sum();
+        return new TaskStatsDto(
+                totalCount,
+                completedCount,
+                Math.max(0, totalCount - completedCount),
+                timed == 0 ? null : (double) completionSeconds.sum() / timed,
+                perHour.snapshot(now),
+                perDay.snapshot(now),
+                reconciledAt);
+    }
+
+    /** Adds the completion times of queued completions, looking their creation times up in one pass. */
+    @Scheduled(fixedDelayString = "${todo.stats.resolve-interval:PT2S}")
+    public void resolveCompletionTimes() {
+        synchronized (maintenance) {
+            Map<Long, LocalDateTime> completedAt = new HashMap<>();
+            TaskCompletedEvent event;
+            while ((event = unresolved.poll()) != null) {
+                for (Long id : event.ids()) {
+                    completedAt.put(id, event.completedAt());
+                }
+            }
+            if (completedAt.isEmpty()) {
+                return;
+            }
+            // Creation times never change, but a lagging replica may not have the row yet.
+            List<TaskCreationTime> created = ReadWriteRoutingDataSource.onPrimary(
+                    () -> taskRepositoryTemplate.findCreationTimes(completedAt.keySet()));
+            for (TaskCreationTime time : created) {
+                long seconds = Duration.between(time.createdAt(), completedAt.get(time.id())).toSeconds();
+                completionSeconds.add(Math.max(0, seconds));
+                timedCompletions.increment();
+            }
+        }
+    }
+
+    /** Resets every counter and window from the database. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${todo.stats.reconcile-interval:PT10M}",
+            initialDelayString = "${todo.stats.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        synchronized (maintenance) {
+            try {
+                ReadWriteRoutingDataSource.onPrimary(() -> {
+                    // Queued completions are covered by the aggregates below.
+                    unresolved.clear();
+                    long totalCount = taskRepositoryTemplate.countTasks();
+                    long completedCount = taskRepositoryTemplate.countCompletedTasks();
+                    long seconds = taskRepositoryTemplate.sumTimeToCompleteSeconds();
+                    LocalDateTime now = LocalDateTime.now();
+                    AtomicReferenceArray<Bucket> hours = perHour.emptyRing();
+                    AtomicReferenceArray<Bucket> days = perDay.emptyRing();
+                    try (Stream<LocalDateTime> times = taskRepositoryTemplate.streamCompletionTimesSince(
+                            now.truncatedTo(ChronoUnit.DAYS).minusDays(DAYS - 1))) {
+                        times.forEach(at -> {
+                            perHour.add(hours, at, 1);
+                            perDay.add(days, at, 1);
+                        });
+                    }
+                    reset(total, totalCount);
+                    reset(completed, completedCount);
+                    reset(completionSeconds, seconds);
+                    reset(timedCompletions, completedCount);
+                    perHour.install(hours);
+                    perDay.install(days);
+                    reconciledAt = now;
+                    return null;
+                });
+            } catch (RuntimeException ex) {
+                log.warn("Could not reconcile task statistics: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private static void reset(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+
+    /** Counts per hour or day over a fixed number of recent buckets, as a lock-free ring. */
+    private static final class RollingCounter {
+        private final ChronoUnit unit;
+        private final int size;
+        private volatile AtomicReferenceArray<Bucket> buckets;
+
+        RollingCounter(ChronoUnit unit, int size) {
+            this.unit = unit;
+            this.size = size;
+            this.buckets = new AtomicReferenceArray<>(size);
+        }
+
+        void add(LocalDateTime at, long count) {
+            add(buckets, at, count);
+        }
+
+        List<TaskCountBucketDto> snapshot(LocalDateTime now) {
+            AtomicReferenceArray<Bucket> current = buckets;
+            long last = index(now);
+            List<TaskCountBucketDto> counts = new ArrayList<>(size);
+            for (long index = last - size + 1; index <= last; index++) {
+                Bucket bucket = current.get(slot(index));
+                long count = bucket != null && bucket.index == index ? bucket.count.sum() : 0;
+                counts.add(new TaskCountBucketDto(start(index), count));
+            }
+            return counts;
+        }
+
+        AtomicReferenceArray<Bucket> emptyRing() {
+            return new AtomicReferenceArray<>(size);
+        }
+
+        /** Replaces every bucket at once; used after filling {@link #emptyRing()} from the database. */
+        void install(AtomicReferenceArray<Bucket> ring) {
+            buckets = ring;
+        }
+
+        void add(AtomicReferenceArray<Bucket> ring, LocalDateTime at, long count) {
+            long index = index(at);
+            int slot = slot(index);
+            while (true) {
+                Bucket bucket = ring.get(slot);
+                if (bucket != null && bucket.index == index) {
+                    bucket.count.add(count);
+                    return;
+                }
+                if (bucket != null && bucket.index > index) {
+                    // Older than the window.
+                    return;
+                }
+                ring.compareAndSet(slot, bucket, new Bucket(index));
+            }
+        }
+
+        private int slot(long index) {
+            return (int) Math.floorMod(index, (long) size);
+        }
+
+        private long index(LocalDateTime at) {
+            return unit == ChronoUnit.DAYS
+                    ? at.toLocalDate().toEpochDay()
+                    : Math.floorDiv(at.toEpochSecond(ZoneOffset.UTC), 3600);
+        }
+
+        private LocalDateTime start(long index) {
+            return unit == ChronoUnit.DAYS
+                    ? LocalDateTime.ofEpochSecond(index * 86400, 0, ZoneOffset.UTC)
+                    : LocalDateTime.ofEpochSecond(index * 3600, 0, ZoneOffset.UTC);
+        }
+    }
+
+    private static final class Bucket {
+        final long index;
+        final LongAdder count = new LongAdder();
+
+        Bucket(long index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.todoapp.todo_backend.business;
+
+import com.todoapp.todo_backend.exception.ResourceNotFoundException;
+import com.todoapp.todo_backend.exception.TaskWriteRejectedException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTransactionManager;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind path that group-commits task creation and completion.
+ *
+ * <p>Writes are queued on a bounded queue and applied by a single writer
+ * thread, which collects whatever arrives within {@code max-delay} of the first
+ * queued write (up to {@code max-batch-size}) and applies all of it in one
+ * transaction, so the database syncs its log once per batch instead of once
+ * per request. Each caller's future completes only after its batch has
+ * committed. Completions of the same id within a batch collapse into one
+ * update.</p>
+ *
+ * <p>If a batch fails it is retried one write at a time, so a single bad write
+ * fails only its own caller. On embedded storage, where a rollback does not
+ * undo the writes a batch already applied, retrying would store those writes
+ * twice, so the whole batch fails instead. An {@link Error} escaping a batch fails every
+ * write of that batch still waiting and leaves the writer running for the
+ * next one. A full queue or a shutdown in progress rejects
+ * new writes with {@link TaskWriteRejectedException}; writes already queued
+ * are drained before shutdown completes.</p>
+ */
+@Component
+public class TaskWriteBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWriteBatcher.class);
+
+    private static final long MAX_WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSizes;
+    private final Object lifecycle = new Object();
+    /** Whether a failed batch leaves nothing behind, so its writes can safely be retried one by one. */
+    private final boolean retryIndividually;
+
+    @Value("${todo.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${todo.write-behind.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${todo.write-behind.max-batch-size:500}")
+    private int maxBatchSize = 500;
+
+    @Value("${todo.write-behind.max-delay:PT0.005S}")
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    @Value("${todo.write-behind.shutdown-timeout:PT10S}")
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private BlockingQueue<Write> queue;
+    private Thread writer;
+    private volatile boolean accepting;
+
+    public TaskWriteBatcher(TaskService taskService, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryIndividually = !(transactionManager instanceof EmbeddedTransactionManager);
+        this.batchSizes = DistributionSummary.builder("tasks.write_behind.batch.size")
+                .description("Writes applied per group commit")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        accepting = true;
+        writer = new Thread(this::run, "task-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Queues a task creation; the future completes with the created task once committed. */
+    public CompletableFuture<TaskResponseDto> create(TaskRequestDto dto) {
+        CompletableFuture<TaskResponseDto> result = new CompletableFuture<>();
+        enqueue(new Create(dto, result));
+        return result;
+    }
+
+    /**
+     * Queues a completion; the future completes once committed, or fails with
+     * {@link ResourceNotFoundException} if the task does not exist.
+     */
+    public CompletableFuture<Void> complete(Long id) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        enqueue(new Complete(id, result));
+        return result;
+    }
+
+    /** Stops accepting writes, then waits for the writer to apply everything already queued. */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        synchronized (lifecycle) {
+            if (!accepting) {
+                return;
+            }
+            accepting = false;
+        }
+        writer.join(shutdownTimeout.toMillis());
+        List<Write> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (writer.isAlive() || !abandoned.isEmpty()) {
+            log.warn("Task writer did not drain within {}; failing {} queued writes", shutdownTimeout, abandoned.size());
+        }
+        abandoned.forEach(w -> w.fail(new TaskWriteRejectedException("Task writer shut down before this write was applied")));
+    }
+
+    private void enqueue(Write write) {
+        synchronized (lifecycle) {
+            if (!accepting) {
+                write.fail(new TaskWriteRejectedException(enabled
+                        ? "Task writer is shutting down" : "Write-behind mode is not enabled"));
+                return;
+            }
+            if (!queue.offer(write)) {
+                write.fail(new TaskWriteRejectedException("Write queue is full"));
+            }
+        }
+    }
+
+    private void run() {
+        List<Write> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            Write first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                accepting = false;
+                continue;
+            }
+            if (first == null) {
+                if (!accepting) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + maxDelay.toNanos();
+            try {
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !accepting) {
+                        // Window closed, or shutting down: take what is already queued and go.
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    // Wait in short slices so a shutdown does not sit out a long window.
+                    Write next = queue.poll(Math.min(remaining, MAX_WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                accepting = false;
+            }
+            try {
+                apply(batch);
+            } catch (Throwable ex) {
+                // Keep the writer alive: callers still waiting would otherwise never hear back.
+                log.error("Task writer failed to apply a batch of {} writes", batch.size(), ex);
+                batch.forEach(write -> write.fail(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<Write> batch) {
+        List<Create> creates = new ArrayList<>();
+        Map<Long, List<Complete>> completes = new LinkedHashMap<>();
+        for (Write write : batch) {
+            if (write instanceof Create create) {
+                creates.add(create);
+            } else if (write instanceof Complete complete) {
+                completes.computeIfAbsent(complete.id(), id -> new ArrayList<>()).add(complete);
+            }
+        }
+        Applied applied;
+        try {
+            applied = transactionTemplate.execute(status -> applyInTransaction(creates, completes.keySet()));
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(ex);
+            } else if (!retryIndividually) {
+                log.warn("Group commit of {} writes failed: {}", batch.size(), ex.getMessage());
+                batch.forEach(write -> write.fail(ex));
+            } else {
+                log.warn("Group commit of {} writes failed, retrying individually: {}", batch.size(), ex.getMessage());
+                batch.forEach(write -> apply(List.of(write)));
+            }
+            return;
+        }
+        batchSizes.record(batch.size());
+        for (int i = 0; i < creates.size(); i++) {
+            creates.get(i).result().complete(applied.created().get(i));
+        }
+        completes.forEach((id, waiting) -> {
+            for (Complete complete : waiting) {
+                if (applied.missing().contains(id)) {
+                    complete.fail(new ResourceNotFoundException("Task not found with id: " + id));
+                } else {
+                    complete.result().complete(null);
+                }
+            }
+        });
+    }
+
+    private Applied applyInTransaction(List<Create> creates, Set<Long> ids) {
+        List<TaskResponseDto> created = creates.isEmpty()
+                ? List.of()
+                : taskService.createTasks(creates.stream().map(Create::dto).toList());
+        Set<Long> missing = Set.of();
+        if (!ids.isEmpty()) {
+            TaskCompletionResultDto result = taskService.markDone(new ArrayList<>(ids));
+            missing = new HashSet<>(result.getMissing());
+        }
+        return new Applied(created, missing);
+    }
+
+    private record Applied(List<TaskResponseDto> created, Set<Long> missing) {
+    }
+
+    private interface Write {
+        void fail(Throwable cause);
+    }
+
+    private record Create(TaskRequestDto dto, CompletableFuture<TaskResponseDto> result) implements Write {
+        @Override
+        public void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+
+    private record Complete(Long id, CompletableFuture<Void> result) implements Write {
+        @Override
+        public void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+    }
+}
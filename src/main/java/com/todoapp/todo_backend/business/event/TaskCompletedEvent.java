@@ -0,0 +1,14 @@
+package com.todoapp.todo_backend.business.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published by {@link com.todoapp.todo_backend.business.TaskService} when tasks are marked done.
+ *
+ * <p>Completion is a set-based update, so the event only names the affected
+ * ids and the completion timestamp they all received. Delivered to
+ * transactional listeners after commit.</p>
+ */
+public record TaskCompletedEvent(List<Long> ids, LocalDateTime completedAt) {
+}
@@ -0,0 +1,12 @@
+package com.todoapp.todo_backend.business.event;
+
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+
+/**
+ * Published by {@link com.todoapp.todo_backend.business.TaskService} when a task is created.
+ *
+ * <p>Listeners should subscribe with a transactional event listener so they only
+ * observe tasks whose creating transaction actually committed.</p>
+ */
+public record TaskCreatedEvent(TaskResponseDto task) {
+}
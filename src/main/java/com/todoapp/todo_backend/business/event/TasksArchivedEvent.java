@@ -0,0 +1,13 @@
+package com.todoapp.todo_backend.business.event;
+
+import java.util.List;
+
+/**
+ * Published by {@link com.todoapp.todo_backend.business.TaskArchiver} for each
+ * batch of completed tasks moved to the archive table.
+ *
+ * <p>The tasks still exist and are readable by id, but no longer appear in
+ * listings or search. Delivered to transactional listeners after commit.</p>
+ */
+public record TasksArchivedEvent(List<Long> ids) {
+}
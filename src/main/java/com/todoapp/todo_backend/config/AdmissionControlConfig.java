@@ -0,0 +1,45 @@
+package com.todoapp.todo_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Puts {@link AdmissionControlFilter} in front of the task API when
+ * {@code todo.admission.enabled} is set.
+ *
+ * <p>Pool saturation is read from the Hikari pool behind {@code spring.datasource},
+ * which is the primary pool when read replicas are enabled as well. Idle
+ * clients are swept on the shared task scheduler.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.admission", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdmissionControlProperties properties, ObjectProvider<HikariDataSource> pool, MeterRegistry registry,
+            TaskScheduler taskScheduler) {
+        HikariDataSource primary = pool.getIfUnique();
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties, () -> {
+            // Null until the pool has handed out its first connection.
+            HikariPoolMXBean stats = primary != null ? primary.getHikariPoolMXBean() : null;
+            return stats != null ? stats.getThreadsAwaitingConnection() : 0;
+        }, registry);
+        taskScheduler.scheduleWithFixedDelay(filter::sweepIdleClients, properties.getIdleClientSweepInterval());
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/tasks", "/api/tasks/*");
+        // Ahead of everything else, so rejected requests cost as little as possible.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
@@ -0,0 +1,271 @@
+package com.todoapp.todo_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Rejects task API requests early instead of letting them wait on a saturated
+ * connection pool.
+ *
+ * <p>Three checks run before the request reaches the controller, cheapest
+ * first:</p>
+ * <ol>
+ *   <li>If more threads are waiting for a primary pool connection than
+ *       {@code max-pool-waiters}, the request is answered 503 at once.</li>
+ *   <li>Each client draws from its own token bucket; an empty bucket answers
+ *       429 with the time until the next token. The client is the remote
+ *       address, unless that is a {@code trusted-proxies} match, in which case
+ *       it is the address the proxy forwarded. At most
+ *       {@code max-tracked-clients} get a bucket of their own; clients seen
+ *       beyond that share one overflow bucket until {@link #sweepIdleClients}
+ *       forgets the idle ones.</li>
+ *   <li>Reads and writes each hold a permit while in flight; with none left
+ *       the request is answered 503 rather than queued. A request that goes
+ *       async (an export or a write-behind wait) keeps its permit until the
+ *       async processing completes.</li>
+ * </ol>
+ *
+ * <p>Admitted requests therefore only compete with a bounded number of others,
+ * which keeps their latency bounded while the excess fails fast and can be
+ * retried. Rejections are counted as {@code tasks.admission.rejected}, tagged
+ * with the reason and request kind. The event stream is exempt: its
+ * connections are long-lived and do not use the pool.</p>
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String STREAM_PATH = "/api/tasks/stream";
+
+    enum Kind { READ, WRITE }
+
+    private final AdmissionControlProperties properties;
+    private final IntSupplier poolWaiters;
+    private final MeterRegistry registry;
+    private final Semaphore reads;
+    private final Semaphore writes;
+    private final Pattern trustedProxies;
+    private final Map<String, TokenBucket> clients = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, IntSupplier poolWaiters,
+                                  MeterRegistry registry) {
+        this.properties = properties;
+        this.poolWaiters = poolWaiters;
+        this.registry = registry;
+        this.reads = new Semaphore(properties.getMaxConcurrentReads());
+        this.writes = new Semaphore(properties.getMaxConcurrentWrites());
+        String proxies = properties.getTrustedProxies();
+        this.trustedProxies = proxies == null || proxies.isBlank() ? null : Pattern.compile(proxies);
+        this.overflow = new TokenBucket(properties.getClientRate(), properties.getClientBurst());
+        inFlightGauge(Kind.READ, reads, properties.getMaxConcurrentReads());
+        inFlightGauge(Kind.WRITE, writes, properties.getMaxConcurrentWrites());
+        Gauge.builder("tasks.admission.tracked_clients", clients, Map::size)
+                .description("Clients with a token bucket of their own")
+                .register(registry);
+    }
+
+    /**
+     * Forgets clients whose bucket has refilled. A full bucket behaves exactly
+     * like a fresh one, so dropping it loses nothing. Run periodically rather
+     * than from the request path, which never scans the tracked clients.
+     */
+    public void sweepIdleClients() {
+        long now = System.nanoTime();
+        clients.values().removeIf(idle -> idle.isFull(now));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(STREAM_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Kind kind = SAFE_METHODS.contains(request.getMethod()) ? Kind.READ : Kind.WRITE;
+
+        if (poolWaiters.getAsInt() > properties.getMaxPoolWaiters()) {
+            reject(response, kind, "pool_saturated", HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds(),
+                    "Database connection pool is saturated");
+            return;
+        }
+
+        if (properties.getClientRate() > 0) {
+            long waitNanos = bucket(clientAddress(request)).tryAcquire(System.nanoTime());
+            if (waitNanos > 0) {
+                reject(response, kind, "rate_limited", HttpStatus.TOO_MANY_REQUESTS,
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)),
+                        "Request rate limit exceeded");
+                return;
+            }
+        }
+
+        Semaphore permits = kind == Kind.READ ? reads : writes;
+        if (!permits.tryAcquire()) {
+            reject(response, kind, "concurrency", HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds(),
+                    "Too many requests in flight");
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permits));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * The address the request is rate limited under. Proxies append to a
+     * forwarded list, so it is walked from the end and the first address that
+     * is not a trusted proxy is the client.
+     */
+    private String clientAddress(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        if (!isTrustedProxy(remote)) {
+            return remote;
+        }
+        for (String header : properties.getClientAddressHeaders()) {
+            String value = request.getHeader(header);
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String[] hops = value.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && (i == 0 || !isTrustedProxy(hop))) {
+                    return hop;
+                }
+            }
+        }
+        return remote;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        return trustedProxies != null && address != null && trustedProxies.matcher(address).matches();
+    }
+
+    private TokenBucket bucket(String client) {
+        TokenBucket bucket = clients.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clients.size() >= properties.getMaxTrackedClients()) {
+            return overflow;
+        }
+        return clients.computeIfAbsent(client,
+                ignored -> new TokenBucket(properties.getClientRate(), properties.getClientBurst()));
+    }
+
+    private void reject(HttpServletResponse response, Kind kind, String reason, HttpStatus status,
+                        long retryAfterSeconds, String message) throws IOException {
+        Counter.builder("tasks.admission.rejected")
+                .description("Task API requests rejected before reaching the controller")
+                .tag("reason", reason)
+                .tag("kind", kind.name().toLowerCase())
+                .register(registry)
+                .increment();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"" + (status == HttpStatus.TOO_MANY_REQUESTS ? "rate_limited" : "overloaded")
+                + "\",\"message\":\"" + message + "\"}");
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, properties.getRetryAfter().toSeconds());
+    }
+
+    private void inFlightGauge(Kind kind, Semaphore permits, int max) {
+        Gauge.builder("tasks.admission.in_flight", permits, semaphore -> max - semaphore.availablePermits())
+                .description("Task API requests currently admitted")
+                .tag("kind", kind.name().toLowerCase())
+                .register(registry);
+    }
+
+    /** Gives the permit back once the async request is done; the container always calls onComplete last. */
+    private record ReleaseOnComplete(Semaphore permits) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A nested startAsync drops the listeners registered so far; stay registered.
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /** Refills continuously at {@code rate} tokens per second, up to {@code burst}. */
+    static final class TokenBucket {
+        private final double nanosPerToken;
+        private final double burst;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double rate, int burst) {
+            this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / rate;
+            this.burst = Math.max(1, burst);
+            this.tokens = this.burst;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /** Takes a token and returns 0, or returns the nanoseconds until one is available. */
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * nanosPerToken);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= burst;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(burst, tokens + (now - refilledAt) / nanosPerToken);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.todoapp.todo_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings under {@code todo.admission} for shedding task API requests before
+ * they queue up on the connection pool.
+ */
+@Data
+@ConfigurationProperties("todo.admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled;
+
+    /** Reads (GET, HEAD, OPTIONS) allowed in flight at once; more are rejected with 503. */
+    private int maxConcurrentReads = 50;
+
+    /** Writes allowed in flight at once; more are rejected with 503. */
+    private int maxConcurrentWrites = 20;
+
+    /** Requests per second each client may sustain; {@code 0} turns per-client limits off. */
+    private double clientRate = 20;
+
+    /** Requests a client may send at once after being idle. */
+    private int clientBurst = 40;
+
+    /** Clients with a bucket of their own; any others share a single overflow bucket. */
+    private int maxTrackedClients = 10_000;
+
+    /** How often clients whose bucket has refilled are forgotten, freeing room for new ones. */
+    private Duration idleClientSweepInterval = Duration.ofSeconds(10);
+
+    /**
+     * Regular expression matching the addresses of proxies whose client address
+     * headers are believed. Empty trusts none, so clients are told apart by
+     * their remote address and cannot pick their own bucket.
+     */
+    private String trustedProxies = "";
+
+    /**
+     * Headers read, in order, for the client address of a request from a
+     * trusted proxy. A comma-separated list is walked from its end.
+     */
+    private List<String> clientAddressHeaders = List.of("Fly-Client-IP", "X-Forwarded-For");
+
+    /**
+     * Threads waiting for a primary pool connection above which every request
+     * is rejected with 503 until the pool catches up.
+     */
+    private int maxPoolWaiters = 20;
+
+    /** {@code Retry-After} sent with 503 rejections. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
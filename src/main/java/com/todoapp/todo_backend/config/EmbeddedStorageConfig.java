@@ -0,0 +1,54 @@
+package com.todoapp.todo_backend.config;
+
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTaskStore;
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTransactionManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Storage for the {@code embedded} profile: tasks live in this process, in an
+ * {@link EmbeddedTaskStore} under {@code todo.embedded.directory}, instead of
+ * in MySQL.
+ *
+ * <p>The profile switches off the datasource and JPA auto-configuration, so
+ * the transaction manager that {@code @Transactional} and the after-commit
+ * listeners rely on is declared here.</p>
+ */
+@Configuration
+@Profile(EmbeddedStorageConfig.PROFILE)
+public class EmbeddedStorageConfig {
+
+    public static final String PROFILE = "embedded";
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedTaskStore embeddedTaskStore(@Value("${todo.embedded.directory:data}") Path directory,
+                                               @Value("${todo.embedded.log-grow-step:16MB}") DataSize logGrowStep,
+                                               @Value("${todo.embedded.max-log-size:256MB}") DataSize maxLogSize)
+            throws IOException {
+        return EmbeddedTaskStore.open(directory, Math.toIntExact(logGrowStep.toBytes()),
+                Math.toIntExact(maxLogSize.toBytes()));
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EmbeddedTaskStore embeddedTaskStore,
+                                                         @Value("${todo.embedded.force-on-commit:true}") boolean forceOnCommit) {
+        return new EmbeddedTransactionManager(embeddedTaskStore, forceOnCommit);
+    }
+
+    @Bean
+    public MeterBinder embeddedTaskStoreMetrics(EmbeddedTaskStore embeddedTaskStore) {
+        return registry -> Gauge.builder("tasks.embedded.log.size", embeddedTaskStore, EmbeddedTaskStore::logSize)
+                .description("Bytes appended to the task log since the last snapshot")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.todoapp.todo_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings under {@code todo.datasource.routing} for sending read-only
+ * transactions to read replicas. Replica credentials default to those of
+ * {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties("todo.datasource.routing")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** How often replicas are validated; a replica marked down is retried on the next check. */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long a client stays on the primary after a write, covering replica lag
+     * so it reads its own writes. {@code PT0S} turns read-your-writes off.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,180 @@
+package com.todoapp.todo_backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Routes read-only transactions to read replicas and everything else to the primary.
+ *
+ * <p>A connection goes to a replica only when the current transaction is
+ * read-only and the thread has not been pinned to the primary; replicas are
+ * taken round-robin, skipping any marked down. A replica is marked down when
+ * handing out a connection fails (that request falls back to the primary) or
+ * when the periodic health check finds it unreachable, and comes back once a
+ * health check succeeds again. With no healthy replica every read goes to the
+ * primary.</p>
+ *
+ * <p>The read-only flag is only known once the transaction has begun, so this
+ * must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which delays fetching the connection until the first statement.</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary  the read-write datasource
+     * @param replicas read replicas by name, in round-robin order
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            this.replicas.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Sends every connection this thread opens to the primary until the returned
+     * pin is closed, e.g. so a client sees its own writes before replicas catch up.
+     */
+    public static PrimaryPin pinToPrimary() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        };
+    }
+
+    /** Runs {@code work} with this thread pinned to the primary. */
+    public static <T> T onPrimary(Supplier<T> work) {
+        try (PrimaryPin ignored = pinToPrimary()) {
+            return work.get();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Replica replica = replicaForCurrentTransaction();
+        return replica == null ? PRIMARY : replica.name();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = replicaForCurrentTransaction();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException ex) {
+            markDown(replica, ex.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /** Validates every replica, marking unreachable ones down and recovered ones up. */
+    @Scheduled(fixedDelayString = "${todo.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            String problem = null;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    problem = "connection failed validation";
+                }
+            } catch (SQLException ex) {
+                problem = ex.getMessage();
+            }
+            if (problem != null) {
+                markDown(replica, problem);
+            } else if (!replica.healthy) {
+                replica.healthy = true;
+                log.info("Read replica {} is back, routing reads to it again", replica.name());
+            }
+        }
+    }
+
+    /** Names of the replicas currently receiving reads. */
+    public List<String> healthyReplicas() {
+        return replicas.stream().filter(r -> r.healthy).map(Replica::name).toList();
+    }
+
+    private Replica replicaForCurrentTransaction() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PINNED.get())) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica candidate = replicas.get((start + i) % replicas.size());
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} marked down, reading from the primary instead: {}", replica.name(), reason);
+        }
+    }
+
+    /** Restores the previous routing of the thread when closed. */
+    public interface PrimaryPin extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
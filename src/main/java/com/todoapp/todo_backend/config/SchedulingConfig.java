@@ -0,0 +1,18 @@
+package com.todoapp.todo_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods, such as the change feed heartbeat.
+ *
+ * <p>All of them share Spring Boot's scheduler, whose pool is set by
+ * {@code spring.task.scheduling.pool.size}. Keep it above one: the task
+ * archiver and the statistics reconcile are long-running jobs, and on a single
+ * thread they delay the frequent ones (heartbeat, replica health check, stats
+ * resolve) for as long as they run.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,56 @@
+package com.todoapp.todo_backend.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Backs the Hibernate second-level cache with Ehcache through JCache.
+ *
+ * <p>Regions, their sizes and TTLs are defined in {@code ehcache.xml}. The cache
+ * manager is created here and handed to Hibernate so the same caches can be
+ * published as {@code cache.*} meters (gets, puts, removals, evictions), tagged
+ * with the region name. Active whenever
+ * {@code spring.jpa.properties.hibernate.cache.use_second_level_cache} is true;
+ * the {@code no-second-level-cache} profile turns it off.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${todo.cache.config:classpath:ehcache.xml}") Resource config)
+            throws IOException {
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        XmlConfiguration xml = new XmlConfiguration(config.getURL(), getClass().getClassLoader());
+        // A fresh identity per application context: keyed by the file alone, the provider would hand
+        // every context the same caches, even contexts that talk to different databases.
+        return provider.getCacheManager(URI.create("urn:todo-backend:second-level-cache:" + UUID.randomUUID()), xml);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.todoapp.todo_backend.config;
+
+import com.todoapp.todo_backend.models.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the task id sequence ahead of the ids already in the database.
+ *
+ * <p>Task ids used to come from an IDENTITY column. When {@code ddl-auto}
+ * creates {@code task_seq} on a database that already holds tasks, it starts
+ * at 1 and the first inserts would reuse existing keys. Once the application
+ * is ready, the sequence is raised to the highest id in {@code task} and
+ * {@code task_archive} plus one allocation, so the next block Hibernate
+ * reserves starts above every existing id. A sequence that is already far
+ * enough ahead is left alone.</p>
+ *
+ * <p>Nothing runs during context refresh, so a refresh-only start such as the
+ * CDS training run needs no database. With
+ * {@code hibernate.boot.allow_jdbc_metadata_access=false} (the
+ * {@code fast-start} profile) the schema is left alone and so is the
+ * sequence: the start without that profile that deploys schema changes also
+ * seeds it.</p>
+ *
+ * <p>On databases with sequences reading the current value draws one block,
+ * which is then skipped; on MySQL the {@code task_seq} table is only ever
+ * raised, in a single conditional UPDATE.</p>
+ */
+@Component
+@Profile("!" + EmbeddedStorageConfig.PROFILE)
+public class TaskIdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIdSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    @Value("${spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access:true}")
+    private boolean jdbcMetadataAccess = true;
+
+    public TaskIdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!jdbcMetadataAccess) {
+            log.debug("Not seeding {}: JDBC access at boot is turned off", Task.ID_SEQUENCE);
+            return;
+        }
+        seed();
+    }
+
+    /**
+     * Raises the sequence so the next reserved block starts above the highest
+     * task id in use.
+     *
+     * @return the value the sequence was raised to, or {@code 0} if it was already ahead
+     */
+    public long seed() {
+        long highest = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM task), 0),"
+                        + " COALESCE((SELECT MAX(id) FROM task_archive), 0))", Long.class);
+        long floor = highest + Task.ID_ALLOCATION_SIZE;
+        SequenceSupport sequences = dialect.getSequenceSupport();
+        boolean raised;
+        if (sequences.supportsSequences()) {
+            Long next = jdbcTemplate.queryForObject(sequences.getSequenceNextValString(Task.ID_SEQUENCE), Long.class);
+            raised = next != null && next < floor;
+            if (raised) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + Task.ID_SEQUENCE + " RESTART WITH " + floor);
+            }
+        } else {
+            raised = jdbcTemplate.update("UPDATE " + Task.ID_SEQUENCE + " SET next_val = ? WHERE next_val < ?",
+                    floor, floor) > 0;
+        }
+        if (!raised) {
+            return 0;
+        }
+        log.info("Raised {} to {}, above the highest task id {}", Task.ID_SEQUENCE, floor, highest);
+        return floor;
+    }
+}
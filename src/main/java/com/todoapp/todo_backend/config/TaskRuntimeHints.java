@@ -0,0 +1,69 @@
+package com.todoapp.todo_backend.config;
+
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskBatchRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskIdsRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCountBucketDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportRejectionDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskStatsDto;
+import com.todoapp.todo_backend.presentation.TaskController;
+import com.todoapp.todo_backend.presentation.TaskStreamController;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reflection and resource hints for the native image build ({@code mvn -Pnative native:compile}).
+ *
+ * <p>Spring's AOT processing already covers beans, repositories and the
+ * return types of controller methods. What it cannot see is listed here: DTOs
+ * that Jackson binds outside controller signatures (export and import streams,
+ * SSE payloads, error bodies), the {@link Task} entity and the projections that
+ * Hibernate instantiates from {@code SELECT new ...} queries, the controller
+ * annotations springdoc reads to build the API description, and the Ehcache
+ * configuration behind the second-level cache.</p>
+ */
+public class TaskRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] BOUND_TYPES = {
+            TaskRequestDto.class,
+            TaskBatchRequestDto.class,
+            TaskIdsRequestDto.class,
+            TaskResponseDto.class,
+            TaskPageResponseDto.class,
+            TaskCompletionResultDto.class,
+            TaskImportSummaryDto.class,
+            TaskImportRejectionDto.class,
+            TaskStatsDto.class,
+            TaskCountBucketDto.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+
+        hints.reflection().registerType(Task.class, MemberCategory.values());
+        hints.reflection().registerType(TaskCompletionState.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(TaskCreationTime.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        for (Class<?> controller : new Class<?>[] {TaskController.class, TaskStreamController.class}) {
+            hints.reflection().registerType(controller,
+                    MemberCategory.INTROSPECT_DECLARED_METHODS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("ehcache-*.xsd");
+        hints.reflection().registerType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,116 @@
+package com.todoapp.todo_backend.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.todoapp.todo_backend.presentation.TaskListingResponseCache;
+import com.todoapp.todo_backend.presentation.TaskProtobufHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Binary response formats, chosen by the client through {@code Accept}.
+ *
+ * <p>CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * are written by Jackson with the application's usual settings, except that
+ * {@code LocalDateTime} values become epoch milliseconds (read as UTC, like the
+ * statistics buckets) instead of ISO strings. Task responses and lists of them
+ * can also be requested as Protobuf, see {@link TaskProtobufHttpMessageConverter}.</p>
+ *
+ * <p>All three converters sit after the JSON one, so JSON is still what clients
+ * get when they send no {@code Accept} header or {@code *}{@code /*}. The
+ * latest-task listings bypass them and are served from a
+ * {@link TaskListingResponseCache} encoding the same formats.</p>
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    public WireFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring MVC registers its own CBOR and Smile converters when the formats are on the
+        // classpath; ours replace them, and appending keeps every binary format behind JSON.
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryMapper(builder(), new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder(), new SmileFactory())));
+        converters.add(new TaskProtobufHttpMessageConverter());
+    }
+
+    @Bean
+    public TaskListingResponseCache taskListingResponseCache(ObjectMapper objectMapper) {
+        return new TaskListingResponseCache(objectMapper,
+                binaryMapper(builder(), new CBORFactory()), binaryMapper(builder(), new SmileFactory()));
+    }
+
+    /**
+     * Mapper for a binary {@code factory}, configured by {@code builder} and
+     * writing {@code LocalDateTime} as epoch milliseconds.
+     */
+    public static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.factory(factory)
+                .serializerByType(LocalDateTime.class, new EpochMillisSerializer())
+                .deserializerByType(LocalDateTime.class, new EpochMillisDeserializer())
+                .build();
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return builders.getIfAvailable(Jackson2ObjectMapperBuilder::new);
+    }
+
+    static final class EpochMillisSerializer extends StdScalarSerializer<LocalDateTime> {
+
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    /** Reads epoch milliseconds, and ISO strings from clients that still send those. */
+    static final class EpochMillisDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+        EpochMillisDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+            }
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                return LocalDateTime.parse(parser.getText().trim());
+            }
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.todoapp.todo_backend.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
 import org.springframework.validation.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,22 +22,60 @@ import java.util.Map;
  * Handles domain-specific exceptions, validation failures, and unexpected
  * internal errors. Ensures the service exposes predictable, structured
  * error formats to clients.</p>
+ *
+ * <p>Shared by the servlet and the reactive stack, so both answer with the
+ * same bodies; only the validation exception type differs between them.</p>
  */
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter notFound;
+
+    public GlobalExceptionHandler(MeterRegistry registry) {
+        this.notFound = Counter.builder("tasks.not_found")
+                .description("Requests answered 404 because a task did not exist")
+                .register(registry);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<?> handleNotFound(ResourceNotFoundException ex) {
+        notFound.increment();
         Map<String, Object> body = new HashMap<>();
         body.put("error", "not_found");
         body.put("message", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursor(InvalidCursorException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "invalid_cursor");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler(TaskWriteRejectedException.class)
+    public ResponseEntity<?> handleWriteRejected(TaskWriteRejectedException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", "overloaded");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidation(MethodArgumentNotValidException ex) {
-        BindingResult br = ex.getBindingResult();
+        return validationFailed(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<?> handleValidation(WebExchangeBindException ex) {
+        return validationFailed(ex.getBindingResult());
+    }
+
+    private static ResponseEntity<?> validationFailed(BindingResult br) {
         Map<String, String> errors = new HashMap<>();
         for (FieldError fe : br.getFieldErrors()) {
             errors.put(fe.getField(), fe.getDefaultMessage());
@@ -43,8 +86,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    /**
+     * Answers anything unexpected with 500. Exceptions Spring raises for a
+     * request it cannot serve (unacceptable {@code Accept}, unsupported method
+     * or media type, missing or malformed parameter) carry their own status
+     * and are rethrown, so the framework answers them with that status instead.
+     */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<?> fallback(Exception ex) {
+    public ResponseEntity<?> fallback(Exception ex) throws Exception {
+        if (ex instanceof ErrorResponse || ex instanceof TypeMismatchException) {
+            throw ex;
+        }
         ex.printStackTrace();
         Map<String, Object> body = new HashMap<>();
         body.put("error", "internal");
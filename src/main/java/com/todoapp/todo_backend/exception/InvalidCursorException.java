@@ -0,0 +1,16 @@
+package com.todoapp.todo_backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Domain-level exception indicating that a pagination cursor could not be decoded.
+ *
+ * <p>Thrown by the service layer when a client sends a cursor token that was
+ * not produced by this API. Handled by {@link GlobalExceptionHandler} to
+ * return a 400 response.</p>
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String msg) { super(msg); }
+}
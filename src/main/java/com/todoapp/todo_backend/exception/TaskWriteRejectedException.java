@@ -0,0 +1,16 @@
+package com.todoapp.todo_backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Indicates that a write could not be queued for the write-behind writer.
+ *
+ * <p>Raised when the queue is full or the application is shutting down.
+ * Handled by {@link GlobalExceptionHandler} to return a 503 so clients back
+ * off and retry.</p>
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TaskWriteRejectedException extends RuntimeException {
+    public TaskWriteRejectedException(String msg) { super(msg); }
+}
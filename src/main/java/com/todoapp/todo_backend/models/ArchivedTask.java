@@ -0,0 +1,36 @@
+package com.todoapp.todo_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed task moved out of the {@code task} table by the archiver.
+ *
+ * <p>Keeps the id and every column of the original task, so an archived task
+ * can still be served by id. Rows are written once, by an INSERT ... SELECT
+ * from {@code task}, and never updated.</p>
+ */
+
+@Entity
+@Table(name = "task_archive", indexes = {
+        @Index(name = "idx_task_archive_completed_at", columnList = "completedAt")
+})
+@Data
+public class ArchivedTask {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -2,6 +2,8 @@ package com.todoapp.todo_backend.models;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,6 +14,13 @@ import java.time.LocalDateTime;
  * <p>Defines the persistent data model for a task, including metadata such as
  * title, description, completion state, and creation timestamp. Mapped to a
  * relational database table using Jakarta Persistence annotations.</p>
+ *
+ * <p>Cached in the Hibernate second-level cache (region named after this class,
+ * sized in {@code ehcache.xml}) so primary-key lookups skip the database.
+ * Entity updates refresh the cached copy on commit; task completion is a
+ * native bulk update that evicts just the completed ids after commit, so a
+ * cached task is never older than the last committed write made through this
+ * instance. Full-table streams bypass the cache.</p>
  */
 
 @Entity
@@ -21,10 +30,27 @@ import java.time.LocalDateTime;
         @Index(name = "idx_task_completed_status", columnList = "completed, createdAt DESC"),
         @Index(name = "idx_task_id", columnList = "id")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 public class Task {
+
+    /** Sequence the ids are drawn from; a table with one {@code next_val} row on MySQL. */
+    public static final String ID_SEQUENCE = "task_seq";
+
+    /** Ids Hibernate reserves per sequence call. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Pooled sequence ids let Hibernate assign keys before the INSERT, which keeps
+     * JDBC insert batching available (IDENTITY forces one round trip per row).
+     * On MySQL the sequence is emulated by the {@code task_seq} table.
+     * {@link com.todoapp.todo_backend.config.TaskIdSequenceInitializer} moves it
+     * past the ids already in use on startup.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -42,4 +68,4 @@ public class Task {
 
     @Column(nullable = true, updatable = true)
     private LocalDateTime completedAt;
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.todoapp.todo_backend.persistence.requestDTO;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object wrapping a list of task creation requests.
+ *
+ * <p>Every element is validated with the same constraints as a single
+ * {@link TaskRequestDto}; a single invalid element rejects the whole batch
+ * before anything is persisted.</p>
+ */
+@Data
+public class TaskBatchRequestDto {
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "At most 1000 tasks per batch")
+    private List<@Valid TaskRequestDto> tasks;
+}
@@ -0,0 +1,18 @@
+package com.todoapp.todo_backend.persistence.requestDTO;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object carrying the ids targeted by a bulk task operation.
+ */
+@Data
+public class TaskIdsRequestDto {
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+}
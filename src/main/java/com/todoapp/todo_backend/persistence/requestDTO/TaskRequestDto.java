@@ -15,11 +15,15 @@ import lombok.Data;
 
 @Data
 public class TaskRequestDto {
+
+    public static final int MAX_TITLE_LENGTH = 200;
+    public static final int MAX_DESCRIPTION_LENGTH = 2000;
+
     @NotBlank(message = "Title is required")
-    @Size(max = 200, message = "Title max 200 chars")
+    @Size(max = MAX_TITLE_LENGTH, message = "Title max 200 chars")
     private String title;
 
-    @Size(max = 2000, message = "Description max 2000 chars")
+    @Size(max = MAX_DESCRIPTION_LENGTH, message = "Description max 2000 chars")
     private String description;
 
 }
@@ -0,0 +1,22 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object reporting the outcome of a bulk completion request.
+ *
+ * <p>Every requested id appears in exactly one list: completed by this
+ * request, already completed beforehand, or not found.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCompletionResultDto {
+    private List<Long> completed;
+    private List<Long> alreadyCompleted;
+    private List<Long> missing;
+}
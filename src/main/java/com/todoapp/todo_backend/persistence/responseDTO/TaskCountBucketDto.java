@@ -0,0 +1,19 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one time bucket of a rolling count, identified by
+ * the start of its hour or day.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountBucketDto {
+    private LocalDateTime start;
+    private long count;
+}
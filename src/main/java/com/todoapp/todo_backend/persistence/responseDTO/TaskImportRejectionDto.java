@@ -0,0 +1,18 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing one record rejected by a bulk import.
+ *
+ * <p>{@code line} is the 1-based line of the uploaded body where the record started.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRejectionDto {
+    private long line;
+    private String reason;
+}
@@ -0,0 +1,25 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object summarising the outcome of a bulk import.
+ *
+ * <p>{@code rejections} lists at most a configured number of rejected records
+ * so the summary stays small for very large uploads; {@code rejected} is
+ * always the full count.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportSummaryDto {
+    private long accepted;
+    private long rejected;
+    private List<TaskImportRejectionDto> rejections;
+    private boolean rejectionsTruncated;
+    private long elapsedMillis;
+}
@@ -0,0 +1,21 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing one page of a keyset-paginated task listing.
+ *
+ * <p>{@code nextCursor} is an opaque token to pass back for the following
+ * page, or {@code null} when the listing is exhausted.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponseDto {
+    private List<TaskResponseDto> items;
+    private String nextCursor;
+}
@@ -1,6 +1,8 @@
 package com.todoapp.todo_backend.persistence.responseDTO;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -11,10 +13,15 @@ import java.time.OffsetDateTime;
  * <p>Used to expose task information outside the service boundary without
  * leaking internal domain models. Helps maintain separation between
  * persistence structures and externally visible response types.</p>
+ *
+ * <p>The all-args constructor doubles as a JPQL constructor expression target,
+ * so read paths can select straight into this type without managed entities.</p>
  */
 
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskResponseDto {
     private Long id;
     private String title;
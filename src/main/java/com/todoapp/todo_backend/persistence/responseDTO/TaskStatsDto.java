@@ -0,0 +1,29 @@
+package com.todoapp.todo_backend.persistence.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object carrying the task statistics for the ops dashboard.
+ *
+ * <p>Completion buckets are ordered oldest first and include empty ones.
+ * {@code meanTimeToCompleteSeconds} is {@code null} until some task has been
+ * completed; {@code reconciledAt} is when the counters were last checked
+ * against the database.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDto {
+    private long total;
+    private long completed;
+    private long incomplete;
+    private Double meanTimeToCompleteSeconds;
+    private List<TaskCountBucketDto> completionsPerHour;
+    private List<TaskCountBucketDto> completionsPerDay;
+    private LocalDateTime reconciledAt;
+}
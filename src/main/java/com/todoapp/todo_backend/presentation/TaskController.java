@@ -1,18 +1,48 @@
 package com.todoapp.todo_backend.presentation;
 
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.business.TaskExportService;
+import com.todoapp.todo_backend.business.TaskImportService;
 import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.business.TaskStatistics;
+import com.todoapp.todo_backend.business.TaskWriteBatcher;
+import com.todoapp.todo_backend.exception.TaskWriteRejectedException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskBatchRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskIdsRequestDto;
 import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
 import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskStatsDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * REST controller exposing task management endpoints.
@@ -27,42 +57,188 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskWriteBatcher taskWriteBatcher;
+    private final TaskStatistics taskStatistics;
+    private final TaskListingResponseCache listingCache;
 
-    public TaskController(TaskService taskService) {
+    @Value("${todo.write-behind.write-timeout:PT5S}")
+    private Duration writeTimeout = Duration.ofSeconds(5);
+
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskImportService taskImportService, TaskWriteBatcher taskWriteBatcher,
+                          TaskStatistics taskStatistics, TaskListingResponseCache listingCache) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskWriteBatcher = taskWriteBatcher;
+        this.taskStatistics = taskStatistics;
+        this.listingCache = listingCache;
     }
 
     @Operation(
             summary = "Retrieve latest 5 active (Complete) tasks",
-            description = "Returns the latest five tasks that are marked as completed.",
+            description = "Returns the latest five tasks that are marked as completed. Supports "
+                    + "conditional requests via ETag / If-None-Match and Last-Modified / If-Modified-Since.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "Successful retrieval",
                             content = @Content(schema = @Schema(implementation = TaskResponseDto.class))
-                    )
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Unchanged since the given ETag or date")
             }
     )
     @GetMapping("/completed")
-    public ResponseEntity<List<TaskResponseDto>> getLatest() {
-        return ResponseEntity.ok(taskService.getLatestTasks());
+    public ResponseEntity<?> getLatest(WebRequest request) {
+        return conditionalListing(request, "completed", taskService::getLatestTasks);
     }
 
 
     @Operation(
             summary = "Retrieve latest 5 active (incomplete) tasks",
-            description = "Returns the latest five tasks that are not marked as completed.",
+            description = "Returns the latest five tasks that are not marked as completed. Supports "
+                    + "conditional requests via ETag / If-None-Match and Last-Modified / If-Modified-Since.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "Successful retrieval",
                             content = @Content(schema = @Schema(implementation = TaskResponseDto.class))
-                    )
+                    ),
+                    @ApiResponse(responseCode = "304", description = "Unchanged since the given ETag or date")
             }
     )
     @GetMapping("/inCompleted")
-    public ResponseEntity<List<TaskResponseDto>> getLatestInCompleted() {
-        return ResponseEntity.ok(taskService.getLatestInCompleted());
+    public ResponseEntity<?> getLatestInCompleted(WebRequest request) {
+        return conditionalListing(request, "inCompleted", taskService::getLatestInCompleted);
+    }
+
+
+    @Operation(
+            summary = "Page through all completed tasks",
+            description = "Returns completed tasks ordered by completion time, newest first. Pass the "
+                    + "returned nextCursor to fetch the following page; it is null on the last page.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval",
+                            content = @Content(schema = @Schema(implementation = TaskPageResponseDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    @GetMapping("/completed/history")
+    public ResponseEntity<TaskPageResponseDto> getCompletedHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(taskService.getCompletedPage(cursor, size));
+    }
+
+
+    @Operation(
+            summary = "Page through all incomplete tasks",
+            description = "Returns incomplete tasks ordered by creation time, newest first. Pass the "
+                    + "returned nextCursor to fetch the following page; it is null on the last page.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval",
+                            content = @Content(schema = @Schema(implementation = TaskPageResponseDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    @GetMapping("/inCompleted/history")
+    public ResponseEntity<TaskPageResponseDto> getInCompletedHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(taskService.getInCompletedPage(cursor, size));
+    }
+
+
+    @Operation(
+            summary = "Retrieve a task by id",
+            description = "Returns a single task. Served from the second-level cache when the task was read "
+                    + "recently and has not changed since.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval",
+                            content = @Content(schema = @Schema(implementation = TaskResponseDto.class))
+                    ),
+                    @ApiResponse(responseCode = "404", description = "Task not found")
+            }
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponseDto> getTask(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getTask(id));
+    }
+
+
+    @Operation(
+            summary = "Search tasks by title and description",
+            description = "Returns tasks containing every word of q, best match first. Title matches rank "
+                    + "above description matches; the last word matches as a prefix, so results can follow "
+                    + "typing, and any word ending in * is a prefix too. Optionally filtered by completion state.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval",
+                            content = @Content(schema = @Schema(implementation = TaskResponseDto.class))
+                    )
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponseDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(q, completed, limit));
+    }
+
+
+    @Operation(
+            summary = "Task statistics",
+            description = "Returns total, completed and incomplete counts, completions per hour (last 48) and per "
+                    + "day (last 30), and the mean time from creation to completion. Served from in-memory "
+                    + "counters that are reconciled with the database periodically, so it is cheap to poll.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Successful retrieval",
+                            content = @Content(schema = @Schema(implementation = TaskStatsDto.class))
+                    )
+            }
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDto> stats() {
+        return ResponseEntity.ok(taskStatistics.snapshot());
+    }
+
+
+    @Operation(
+            summary = "Export tasks as newline-delimited JSON",
+            description = "Streams every task, one JSON object per line in id order. Optionally filtered by "
+                    + "completion state and a createdAt range (from inclusive, to exclusive). Memory use is "
+                    + "independent of the number of tasks.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Export stream")
+            }
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        StreamingResponseBody body = out -> taskExportService.exportTasks(completed, createdFrom, createdTo, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
 
@@ -71,30 +247,143 @@ public class TaskController {
             description = "Accepts a validated request body and creates a new task in the system.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Task created"),
-                    @ApiResponse(responseCode = "400", description = "Invalid request")
+                    @ApiResponse(responseCode = "400", description = "Invalid request"),
+                    @ApiResponse(responseCode = "503", description = "Write queue full (write-behind mode only)")
             }
     )
     @PostMapping
     public ResponseEntity<TaskResponseDto> create(
             @Valid @RequestBody TaskRequestDto dto
     ) {
-        TaskResponseDto created = taskService.createTask(dto);
+        TaskResponseDto created = taskWriteBatcher.isEnabled()
+                ? await(taskWriteBatcher.create(dto))
+                : taskService.createTask(dto);
         return ResponseEntity
                 .created(URI.create("/api/tasks/" + created.getId()))
                 .body(created);
     }
 
+    @Operation(
+            summary = "Create many tasks at once",
+            description = "Validates every task in the request, then persists them in one transaction "
+                    + "using batched inserts. Created tasks are returned in request order.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Tasks created"),
+                    @ApiResponse(responseCode = "400", description = "Invalid request")
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponseDto>> createBatch(
+            @Valid @RequestBody TaskBatchRequestDto dto
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(dto.getTasks()));
+    }
+
+    @Operation(
+            summary = "Import tasks from NDJSON or CSV",
+            description = "Reads the request body incrementally (application/x-ndjson with one TaskRequestDto "
+                    + "per line, or text/csv with title,description columns) and commits valid records in "
+                    + "fixed-size chunks. Invalid records are reported by line number; a failing chunk never "
+                    + "rolls back chunks committed before it.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import summary",
+                            content = @Content(schema = @Schema(implementation = TaskImportSummaryDto.class)))
+            }
+    )
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<TaskImportSummaryDto> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(body, TaskImportService.Format.from(contentType)));
+    }
+
     @Operation(
             summary = "Mark a task as completed",
             description = "Marks a task as done. Completed tasks do not show in the latest task list.",
             responses = {
                     @ApiResponse(responseCode = "204", description = "Task marked completed"),
-                    @ApiResponse(responseCode = "404", description = "Task not found")
+                    @ApiResponse(responseCode = "404", description = "Task not found"),
+                    @ApiResponse(responseCode = "503", description = "Write queue full (write-behind mode only)")
             }
     )
     @PostMapping("/{id}/done")
     public ResponseEntity<Void> done(@PathVariable Long id) {
-        taskService.markDone(id);
+        if (taskWriteBatcher.isEnabled()) {
+            await(taskWriteBatcher.complete(id));
+        } else {
+            taskService.markDone(id);
+        }
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Mark many tasks as completed",
+            description = "Completes all listed tasks with set-based updates and reports which ids were "
+                    + "completed, which were already completed and which do not exist.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Completion result",
+                            content = @Content(schema = @Schema(implementation = TaskCompletionResultDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid request")
+            }
+    )
+    @PostMapping("/done")
+    public ResponseEntity<TaskCompletionResultDto> doneAll(
+            @Valid @RequestBody TaskIdsRequestDto dto
+    ) {
+        return ResponseEntity.ok(taskService.markDone(dto.getIds()));
+    }
+
+    /**
+     * Waits up to {@code write-timeout} for a write-behind batch to commit,
+     * rethrowing its failure as-is so the usual exception handlers map it to a
+     * status code. A write that takes longer is answered with 503; it stays
+     * queued and may still be applied.
+     */
+    private <T> T await(CompletableFuture<T> write) {
+        try {
+            return write.get(writeTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new TaskWriteRejectedException("Write was not committed within " + writeTimeout);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TaskWriteRejectedException("Interrupted while waiting for the write to commit");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        }
+    }
+
+    /**
+     * Answers a poll of one of the latest-task listings. The change version is
+     * read first and compared with the request's validators, so an unchanged
+     * listing is answered with 304 without loading or serializing anything.
+     * Returning {@code null} tells Spring MVC the 304 has already been written.
+     * Otherwise the body comes from {@link TaskListingResponseCache}, already
+     * encoded and, if the client accepts gzip, compressed. The ETag does not
+     * depend on either, so responses vary by {@code Accept} and
+     * {@code Accept-Encoding} to keep shared caches from mixing them up.
+     */
+    private ResponseEntity<?> conditionalListing(
+            WebRequest request, String scope, Supplier<List<TaskResponseDto>> listing) {
+        TaskChangeVersion version = taskService.getChangeVersion();
+        if (request.checkNotModified(version.etag(scope), version.changedAt().toEpochMilli())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        TaskListingResponseCache.Variant variant = listingCache.negotiate(
+                request.getHeader(HttpHeaders.ACCEPT), request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (variant == null) {
+            return response.body(listing.get());
+        }
+        TaskListingResponseCache.Body body = listingCache.get(scope, version, variant, listing);
+        if (body.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, body.contentEncoding());
+        }
+        return response.contentType(body.contentType()).body(body.bytes());
+    }
 }
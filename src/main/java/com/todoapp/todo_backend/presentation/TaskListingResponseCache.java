@@ -0,0 +1,209 @@
+package com.todoapp.todo_backend.presentation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded bodies of the latest-task listings, kept for the current
+ * {@link TaskChangeVersion}.
+ *
+ * <p>Every write that changes a listing advances the version, so while it is
+ * unchanged the bytes written for one request are valid for the next: an
+ * unchanged listing is answered with a copy of cached bytes, without loading
+ * the tasks, serializing them or compressing them. Each format and coding is
+ * encoded on first request and kept until the version moves on; only one
+ * version per listing is ever held.</p>
+ *
+ * <p>The version must be read before the listing is loaded, as the controller
+ * already does for its ETag. A write landing in between then at worst caches
+ * newer content under the older version, which no request reads once the
+ * version has advanced.</p>
+ *
+ * <p>The gzip variant is compressed once at the highest level and only served
+ * when it is actually smaller. Brotli is not offered: the JDK has no encoder
+ * for it.</p>
+ */
+public class TaskListingResponseCache {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final TypeReference<List<TaskResponseDto>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    /** Body format and content coding of one cached response. */
+    public record Variant(MediaType contentType, boolean gzip) {
+    }
+
+    /** A cached response body; {@code contentEncoding} is {@code null} when not compressed. */
+    public record Body(MediaType contentType, @Nullable String contentEncoding, byte[] bytes) {
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode(List<TaskResponseDto> tasks) throws IOException;
+    }
+
+    /** Supported formats in order of preference when the client has none. */
+    private final Map<MediaType, Encoder> encoders = new LinkedHashMap<>();
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public TaskListingResponseCache(ObjectMapper json, ObjectMapper cbor, ObjectMapper smile) {
+        ObjectWriter jsonWriter = json.writerFor(LIST_TYPE);
+        ObjectWriter cborWriter = cbor.writerFor(LIST_TYPE);
+        ObjectWriter smileWriter = smile.writerFor(LIST_TYPE);
+        encoders.put(MediaType.APPLICATION_JSON, jsonWriter::writeValueAsBytes);
+        encoders.put(MediaType.APPLICATION_CBOR, cborWriter::writeValueAsBytes);
+        encoders.put(SMILE, smileWriter::writeValueAsBytes);
+        encoders.put(TaskProtobufHttpMessageConverter.X_PROTOBUF, TaskListingResponseCache::protobuf);
+        encoders.put(TaskProtobufHttpMessageConverter.PROTOBUF, TaskListingResponseCache::protobuf);
+    }
+
+    /**
+     * Picks the response variant for the request's {@code Accept} and
+     * {@code Accept-Encoding} headers. Returns {@code null} when {@code Accept}
+     * allows none of the cached formats, leaving negotiation (and the 406) to
+     * Spring MVC.
+     */
+    @Nullable
+    public Variant negotiate(@Nullable String accept, @Nullable String acceptEncoding) {
+        List<MediaType> ranges;
+        try {
+            ranges = accept == null || accept.isBlank() ? List.of(MediaType.ALL) : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+        MediaType best = null;
+        MediaType bestRange = null;
+        for (MediaType candidate : encoders.keySet()) {
+            // The most specific range naming a type decides its quality, so "*/*, application/cbor;q=0" excludes CBOR.
+            MediaType range = null;
+            for (MediaType r : ranges) {
+                if (r.includes(candidate) && (range == null || specificity(r) > specificity(range))) {
+                    range = r;
+                }
+            }
+            if (range == null || range.getQualityValue() <= 0) {
+                continue;
+            }
+            if (bestRange == null || range.getQualityValue() > bestRange.getQualityValue()
+                    || (range.getQualityValue() == bestRange.getQualityValue() && specificity(range) > specificity(bestRange))) {
+                best = candidate;
+                bestRange = range;
+            }
+        }
+        return best == null ? null : new Variant(best, acceptsGzip(acceptEncoding));
+    }
+
+    /**
+     * Returns the body of listing {@code scope} at {@code version} in the given
+     * variant, encoding it from {@code listing} only if it is not cached yet.
+     */
+    public Body get(String scope, TaskChangeVersion version, Variant variant, Supplier<List<TaskResponseDto>> listing) {
+        Entry entry = entries.compute(scope,
+                (key, current) -> current == null || current.version < version.value() ? new Entry(version.value()) : current);
+        if (entry.version != version.value()) {
+            // A request that read its version before a newer one was cached: serve it, but don't keep it.
+            entry = new Entry(version.value());
+        }
+        Variant identity = new Variant(variant.contentType(), false);
+        Body plain = entry.bodies.computeIfAbsent(identity,
+                ignored -> new Body(variant.contentType(), null, encode(variant.contentType(), listing.get())));
+        if (!variant.gzip()) {
+            return plain;
+        }
+        return entry.bodies.computeIfAbsent(variant, ignored -> {
+            byte[] compressed = gzip(plain.bytes());
+            return compressed.length < plain.bytes().length ? new Body(variant.contentType(), "gzip", compressed) : plain;
+        });
+    }
+
+    private byte[] encode(MediaType contentType, List<TaskResponseDto> tasks) {
+        try {
+            return encoders.get(contentType).encode(tasks);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] protobuf(List<TaskResponseDto> tasks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskProtobufCodec.writeTasks(tasks, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        // Compressed once per version, so the slowest level costs nothing per request.
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = quality;
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    private static int specificity(MediaType range) {
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final ConcurrentMap<Variant, Body> bodies = new ConcurrentHashMap<>();
+
+        Entry(long version) {
+            this.version = version;
+        }
+    }
+}
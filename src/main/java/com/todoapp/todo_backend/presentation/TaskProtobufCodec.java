@@ -0,0 +1,250 @@
+package com.todoapp.todo_backend.presentation;
+
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Protobuf wire encoding of {@link TaskResponseDto}, matching
+ * {@code static/proto/task.proto}:
+ *
+ * <pre>
+ * message Task {
+ *   optional int64 id = 1;
+ *   optional string title = 2;
+ *   optional string description = 3;
+ *   optional int64 created_at = 4;    // epoch milliseconds, UTC
+ *   optional int64 completed_at = 5;  // absent while incomplete
+ * }
+ *
+ * message TaskList {
+ *   repeated Task tasks = 1;
+ * }
+ * </pre>
+ *
+ * <p>Written by hand because the schema is five scalar fields; generated
+ * message classes would add a runtime dependency and a copy per task for no
+ * gain. Null fields are left out. Readers skip fields they do not know, so
+ * fields can be added under new numbers without breaking older clients;
+ * existing numbers and types must never change.</p>
+ */
+public final class TaskProtobufCodec {
+
+    static final int ID = 1;
+    static final int TITLE = 2;
+    static final int DESCRIPTION = 3;
+    static final int CREATED_AT = 4;
+    static final int COMPLETED_AT = 5;
+    static final int TASKS = 1;
+
+    private static final int VARINT = 0;
+    private static final int FIXED64 = 1;
+    private static final int LENGTH_DELIMITED = 2;
+    private static final int FIXED32 = 5;
+
+    private TaskProtobufCodec() {
+    }
+
+    /** Writes {@code task} as a {@code Task} message. */
+    public static void writeTask(TaskResponseDto task, OutputStream out) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        encodeTask(task, buffer);
+        buffer.writeTo(out);
+    }
+
+    /** Writes {@code tasks} as a {@code TaskList} message. */
+    public static void writeTasks(Collection<TaskResponseDto> tasks, OutputStream out) throws IOException {
+        ByteArrayOutputStream list = new ByteArrayOutputStream(64 * Math.max(1, tasks.size()));
+        ByteArrayOutputStream task = new ByteArrayOutputStream(64);
+        for (TaskResponseDto dto : tasks) {
+            task.reset();
+            encodeTask(dto, task);
+            writeTag(list, TASKS, LENGTH_DELIMITED);
+            writeVarint(list, task.size());
+            task.writeTo(list);
+        }
+        list.writeTo(out);
+    }
+
+    /** Reads a {@code Task} message. */
+    public static TaskResponseDto readTask(byte[] bytes) {
+        return decodeTask(new Reader(bytes, 0, bytes.length));
+    }
+
+    /** Reads a {@code TaskList} message. */
+    public static List<TaskResponseDto> readTasks(byte[] bytes) {
+        Reader reader = new Reader(bytes, 0, bytes.length);
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        while (reader.hasMore()) {
+            int tag = reader.readTag();
+            if (tag >>> 3 == TASKS && (tag & 7) == LENGTH_DELIMITED) {
+                tasks.add(decodeTask(reader.readMessage()));
+            } else {
+                reader.skip(tag & 7);
+            }
+        }
+        return tasks;
+    }
+
+    private static void encodeTask(TaskResponseDto task, ByteArrayOutputStream out) {
+        if (task.getId() != null) {
+            writeTag(out, ID, VARINT);
+            writeVarint(out, task.getId());
+        }
+        writeString(out, TITLE, task.getTitle());
+        writeString(out, DESCRIPTION, task.getDescription());
+        writeTimestamp(out, CREATED_AT, task.getCreatedAt());
+        writeTimestamp(out, COMPLETED_AT, task.getCompletedAt());
+    }
+
+    private static TaskResponseDto decodeTask(Reader reader) {
+        TaskResponseDto task = new TaskResponseDto();
+        while (reader.hasMore()) {
+            int tag = reader.readTag();
+            int field = tag >>> 3;
+            int wireType = tag & 7;
+            if (wireType != expectedWireType(field)) {
+                reader.skip(wireType);
+                continue;
+            }
+            switch (field) {
+                case ID -> task.setId(reader.readVarint());
+                case TITLE -> task.setTitle(reader.readString());
+                case DESCRIPTION -> task.setDescription(reader.readString());
+                case CREATED_AT -> task.setCreatedAt(toLocalDateTime(reader.readVarint()));
+                case COMPLETED_AT -> task.setCompletedAt(toLocalDateTime(reader.readVarint()));
+                default -> throw new IllegalStateException("Unhandled field " + field);
+            }
+        }
+        return task;
+    }
+
+    /** Wire type of a known {@code Task} field, or -1 for fields this version does not know. */
+    private static int expectedWireType(int field) {
+        return switch (field) {
+            case ID, CREATED_AT, COMPLETED_AT -> VARINT;
+            case TITLE, DESCRIPTION -> LENGTH_DELIMITED;
+            default -> -1;
+        };
+    }
+
+    private static void writeString(ByteArrayOutputStream out, int field, String value) {
+        if (value != null) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(out, field, LENGTH_DELIMITED);
+            writeVarint(out, utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+    }
+
+    private static void writeTimestamp(ByteArrayOutputStream out, int field, LocalDateTime value) {
+        if (value != null) {
+            writeTag(out, field, VARINT);
+            writeVarint(out, value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, (field << 3) | wireType);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    /** Cursor over one message, or over an embedded message's bytes. */
+    private static final class Reader {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        Reader(byte[] bytes, int offset, int end) {
+            this.bytes = bytes;
+            this.position = offset;
+            this.end = end;
+        }
+
+        boolean hasMore() {
+            return position < end;
+        }
+
+        int readTag() {
+            return (int) readVarint();
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at offset " + position);
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Reader readMessage() {
+            int length = readLength();
+            Reader message = new Reader(bytes, position, position + length);
+            position += length;
+            return message;
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case VARINT -> readVarint();
+                case FIXED64 -> advance(8);
+                case LENGTH_DELIMITED -> advance(readLength());
+                case FIXED32 -> advance(4);
+                default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+            }
+        }
+
+        private int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > end - position) {
+                throw new IllegalArgumentException("Truncated message at offset " + position);
+            }
+            return (int) length;
+        }
+
+        private void advance(int count) {
+            if (count > end - position) {
+                throw new IllegalArgumentException("Truncated message at offset " + position);
+            }
+            position += count;
+        }
+
+        private byte readByte() {
+            if (position >= end) {
+                throw new IllegalArgumentException("Truncated message at offset " + position);
+            }
+            return bytes[position++];
+        }
+    }
+}
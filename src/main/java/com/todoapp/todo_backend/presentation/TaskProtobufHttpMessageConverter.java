@@ -0,0 +1,90 @@
+package com.todoapp.todo_backend.presentation;
+
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Reads and writes {@link TaskResponseDto} and collections of it as Protobuf
+ * ({@code application/x-protobuf} or {@code application/protobuf}) using
+ * {@link TaskProtobufCodec}.
+ *
+ * <p>A single task is a {@code Task} message, a collection a {@code TaskList}.
+ * Any other body, error responses included, is not writable as Protobuf, so
+ * clients should list JSON as a fallback, e.g.
+ * {@code Accept: application/x-protobuf, application/json;q=0.5}.</p>
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "protobuf");
+    public static final MediaType X_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public TaskProtobufHttpMessageConverter() {
+        super(X_PROTOBUF, PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskResponseDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return (isTask(type) || isTaskCollection(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return (supports(clazz) || isTaskCollection(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        try {
+            return isTask(type) ? TaskProtobufCodec.readTask(body) : TaskProtobufCodec.readTasks(body);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException("Invalid Protobuf task message: " + ex.getMessage(),
+                    ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        if (body instanceof TaskResponseDto task) {
+            TaskProtobufCodec.writeTask(task, outputMessage.getBody());
+        } else {
+            TaskProtobufCodec.writeTasks((Collection<TaskResponseDto>) body, outputMessage.getBody());
+        }
+    }
+
+    private static boolean isTask(@Nullable Type type) {
+        return type != null && TaskResponseDto.class.isAssignableFrom(ResolvableType.forType(type).toClass());
+    }
+
+    private static boolean isTaskCollection(@Nullable Type type) {
+        if (type == null) {
+            return false;
+        }
+        ResolvableType resolved = ResolvableType.forType(type);
+        return Collection.class.isAssignableFrom(resolved.toClass())
+                && TaskResponseDto.class.isAssignableFrom(resolved.asCollection().getGeneric().toClass());
+    }
+}
@@ -0,0 +1,91 @@
+package com.todoapp.todo_backend.presentation;
+
+import com.todoapp.todo_backend.business.TaskChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Pushes task changes to browsers over Server-Sent Events.
+ *
+ * <p>Each connection is an async request backed by an {@link SseEmitter}, so
+ * idle subscribers do not hold a servlet thread. Delivery, buffering and replay
+ * are handled by {@link TaskChangeFeed}.</p>
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin("*")
+public class TaskStreamController {
+
+    private final TaskChangeFeed taskChangeFeed;
+
+    @Value("${todo.stream.timeout:PT30M}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    @Value("${todo.stream.reconnect-delay:PT3S}")
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+
+    public TaskStreamController(TaskChangeFeed taskChangeFeed) {
+        this.taskChangeFeed = taskChangeFeed;
+    }
+
+    @Operation(
+            summary = "Stream task changes",
+            description = "Server-Sent Events stream of committed changes: 'created' carries the tasks "
+                    + "created by one commit, 'completed' carries the completed ids and timestamp, and 'reset' "
+                    + "means changes were missed and the listings should be reloaded. Reconnect with Last-Event-ID to resume.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream")
+            }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskChangeFeed.Subscription subscription = taskChangeFeed.subscribe(lastEventId, new EmitterSink(emitter, reconnectDelay));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        return emitter;
+    }
+
+    private static final class EmitterSink implements TaskChangeFeed.Sink {
+        private final SseEmitter emitter;
+        private final Duration reconnectDelay;
+
+        EmitterSink(SseEmitter emitter, Duration reconnectDelay) {
+            this.emitter = emitter;
+            this.reconnectDelay = reconnectDelay;
+        }
+
+        @Override
+        public void send(TaskChangeFeed.Change change) throws IOException {
+            if (change.type() == null) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(change.type())
+                    .reconnectTime(reconnectDelay.toMillis())
+                    .data(change.data(), MediaType.APPLICATION_JSON);
+            if (change.id() != null) {
+                event.id(change.id());
+            }
+            emitter.send(event);
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                // Already completed by the container (timeout or client disconnect).
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.models.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /** Copies the given tasks into the archive in one statement, without loading them. */
+    @Modifying
+    @Query("INSERT INTO ArchivedTask (id, title, description, createdAt, completedAt) " +
+            "SELECT t.id, t.title, t.description, t.createdAt, t.completedAt FROM Task t WHERE t.id IN :ids")
+    int copyFromTasks(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.todoapp.todo_backend.repository.TaskCompletionState(a.id, a.completedAt) FROM ArchivedTask a WHERE a.id IN :ids")
+    List<TaskCompletionState> findCompletionStates(@Param("ids") Collection<Long> ids);
+
+    /** Summed completion time of every archived task, in seconds; {@code null} when there is none. */
+    @Query("SELECT SUM((a.completedAt - a.createdAt) by second) FROM ArchivedTask a")
+    Number sumTimeToCompleteSeconds();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.completedAt FROM ArchivedTask a WHERE a.completedAt >= :since")
+    Stream<LocalDateTime> streamCompletionTimesSince(@Param("since") LocalDateTime since);
+}
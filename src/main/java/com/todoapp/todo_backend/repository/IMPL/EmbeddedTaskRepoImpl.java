@@ -0,0 +1,246 @@
+package com.todoapp.todo_backend.repository.IMPL;
+
+import com.todoapp.todo_backend.config.EmbeddedStorageConfig;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTaskStore;
+import com.todoapp.todo_backend.repository.embedded.StoredTask;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link TaskRepositoryTemplate} over the in-process
+ * {@link EmbeddedTaskStore}, active with the {@code embedded} profile in place
+ * of {@link TaskRepoImpl}.
+ *
+ * <p>Behaves like the JPA implementation: the listings and pages come from the
+ * store's time indexes, lookups by id and the aggregates also cover archived
+ * tasks, and returned {@link Task}s are detached copies. Timestamps are kept
+ * to the microsecond, as in the task table, so {@link #save} and
+ * {@link #saveAll} truncate the ones they are given. Only completed tasks can
+ * be archived.</p>
+ *
+ * <p>A write made outside a transaction is forced to disk straight away; inside
+ * one, the commit does it. A snapshot is written every
+ * {@code todo.embedded.snapshot-interval} and on shutdown, and is skipped when
+ * nothing changed.</p>
+ */
+@Service
+@Profile(EmbeddedStorageConfig.PROFILE)
+@Timed("tasks.repository")
+public class EmbeddedTaskRepoImpl implements TaskRepositoryTemplate {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedTaskRepoImpl.class);
+
+    private static final int LATEST_LIMIT = 5;
+
+    private final EmbeddedTaskStore store;
+    private final boolean forceOnCommit;
+
+    public EmbeddedTaskRepoImpl(EmbeddedTaskStore store,
+                                @Value("${todo.embedded.force-on-commit:true}") boolean forceOnCommit) {
+        this.store = store;
+        this.forceOnCommit = forceOnCommit;
+    }
+
+    @Override
+    public List<Task> getLatestCompletedTasks() {
+        return store.completedPage(null, null, LATEST_LIMIT).stream().map(EmbeddedTaskRepoImpl::toTask).toList();
+    }
+
+    @Override
+    public List<Task> getLatestInCompletedTasks() {
+        return store.openPage(null, null, LATEST_LIMIT).stream().map(EmbeddedTaskRepoImpl::toTask).toList();
+    }
+
+    @Override
+    public List<TaskResponseDto> getLatestCompletedTaskDtos() {
+        return getCompletedPage(null, null, LATEST_LIMIT);
+    }
+
+    @Override
+    public List<TaskResponseDto> getLatestInCompletedTaskDtos() {
+        return getInCompletedPage(null, null, LATEST_LIMIT);
+    }
+
+    @Override
+    public List<TaskResponseDto> getCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return store.completedPage(afterAt, afterId, limit).stream().map(EmbeddedTaskRepoImpl::toDto).toList();
+    }
+
+    @Override
+    public List<TaskResponseDto> getInCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return store.openPage(afterAt, afterId, limit).stream().map(EmbeddedTaskRepoImpl::toDto).toList();
+    }
+
+    @Override
+    public Stream<Task> streamTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return store.findAll(task -> (completed == null || task.completed() == completed)
+                        && (createdFrom == null || !task.createdAtTime().isBefore(createdFrom))
+                        && (createdTo == null || task.createdAtTime().isBefore(createdTo)))
+                .stream()
+                .map(EmbeddedTaskRepoImpl::toTask);
+    }
+
+    @Override
+    public Optional<Task> findByTaskId(Long id) {
+        return Optional.ofNullable(store.find(id)).map(EmbeddedTaskRepoImpl::toTask);
+    }
+
+    @Override
+    public List<TaskResponseDto> findTaskDtosByIds(Collection<Long> ids) {
+        return store.findAll(ids, false).stream().map(EmbeddedTaskRepoImpl::toDto).toList();
+    }
+
+    @Override
+    public boolean existsByTaskId(Long id) {
+        return store.find(id) != null;
+    }
+
+    @Override
+    public Task save(Task task) {
+        return saveAll(List.of(task)).get(0);
+    }
+
+    /** Stores all tasks as one log record and sets their ids and truncated timestamps. */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<StoredTask> unsaved = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            LocalDateTime createdAt = task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now();
+            LocalDateTime completedAt = Boolean.TRUE.equals(task.getCompleted())
+                    ? (task.getCompletedAt() != null ? task.getCompletedAt() : createdAt)
+                    : null;
+            unsaved.add(StoredTask.unsaved(task.getTitle(), task.getDescription(), createdAt, completedAt));
+        }
+        List<StoredTask> saved = store.insert(unsaved);
+        written();
+        for (int i = 0; i < tasks.size(); i++) {
+            StoredTask stored = saved.get(i);
+            Task task = tasks.get(i);
+            task.setId(stored.id());
+            task.setCompleted(stored.completed());
+            task.setCreatedAt(stored.createdAtTime());
+            task.setCompletedAt(stored.completedAtTime());
+        }
+        return tasks;
+    }
+
+    @Override
+    public int markCompleted(Collection<Long> ids, LocalDateTime completedAt) {
+        int updated = store.complete(ids, completedAt);
+        written();
+        return updated;
+    }
+
+    @Override
+    public List<TaskCompletionState> findCompletionStates(Collection<Long> ids) {
+        return store.findAll(ids, true).stream()
+                .map(task -> new TaskCompletionState(task.id(), task.completedAtTime()))
+                .toList();
+    }
+
+    @Override
+    public List<TaskCreationTime> findCreationTimes(Collection<Long> ids) {
+        return store.findAll(ids, false).stream()
+                .map(task -> new TaskCreationTime(task.id(), task.createdAtTime()))
+                .toList();
+    }
+
+    @Override
+    public long countTasks() {
+        return store.count();
+    }
+
+    @Override
+    public long countCompletedTasks() {
+        return store.countCompleted();
+    }
+
+    @Override
+    public long sumTimeToCompleteSeconds() {
+        return store.sumTimeToCompleteSeconds();
+    }
+
+    @Override
+    public Stream<LocalDateTime> streamCompletionTimesSince(LocalDateTime since) {
+        return store.completionTimesSince(since).stream();
+    }
+
+    @Override
+    public List<TaskCompletionState> findArchivableTasks(LocalDateTime cutoff, LocalDateTime afterAt, Long afterId,
+                                                         int limit) {
+        return store.completedBefore(cutoff, afterAt, afterId, limit).stream()
+                .map(task -> new TaskCompletionState(task.id(), task.completedAtTime()))
+                .toList();
+    }
+
+    @Override
+    public int archiveTasks(Collection<Long> ids) {
+        int moved = store.archive(ids);
+        written();
+        return moved;
+    }
+
+    @Override
+    public LocalDateTime findOldestCompletionTime() {
+        return store.oldestCompletionTime();
+    }
+
+    /** Compacts the log into a snapshot, so recovery replays at most one interval of writes. */
+    @Scheduled(fixedDelayString = "${todo.embedded.snapshot-interval:PT5M}",
+            initialDelayString = "${todo.embedded.snapshot-interval:PT5M}")
+    public void snapshot() {
+        try {
+            store.snapshot();
+        } catch (IOException e) {
+            // The log still holds everything; the next run tries again.
+            log.error("Could not write task snapshot", e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void written() {
+        if (forceOnCommit && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            store.force();
+        }
+    }
+
+    private static Task toTask(StoredTask stored) {
+        Task task = new Task();
+        task.setId(stored.id());
+        task.setTitle(stored.title());
+        task.setDescription(stored.description());
+        task.setCompleted(stored.completed());
+        task.setCreatedAt(stored.createdAtTime());
+        task.setCompletedAt(stored.completedAtTime());
+        return task;
+    }
+
+    private static TaskResponseDto toDto(StoredTask stored) {
+        return new TaskResponseDto(stored.id(), stored.title(), stored.description(),
+                stored.createdAtTime(), stored.completedAtTime());
+    }
+}
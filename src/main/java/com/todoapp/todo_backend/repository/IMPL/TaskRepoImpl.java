@@ -1,12 +1,36 @@
 package com.todoapp.todo_backend.repository.IMPL;
 
+import com.todoapp.todo_backend.config.EmbeddedStorageConfig;
+import com.todoapp.todo_backend.models.ArchivedTask;
 import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.ArchivedTaskRepository;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
 import com.todoapp.todo_backend.repository.TaskRepository;
 import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link TaskRepositoryTemplate} providing custom optimized queries.
@@ -14,14 +38,35 @@ import java.util.Optional;
  * <p>This class wraps JPA repository operations to generate response DTOs at the
  * database boundary. Useful when results must be pre-shaped before reaching
  * the service layer.</p>
+ *
+ * <p>Every method is timed as {@code tasks.repository}, tagged with the method
+ * name. For {@link #streamTasks} that covers opening the cursor, not consuming it.</p>
+ *
+ * <p>Lookups by id and the statistics aggregates also cover the
+ * {@code task_archive} table; the listings only read the task table.</p>
+ *
+ * <p>Replaced by {@link EmbeddedTaskRepoImpl} under the {@code embedded} profile.</p>
  */
 @Service
+@Profile("!" + EmbeddedStorageConfig.PROFILE)
+@Timed("tasks.repository")
 public class TaskRepoImpl implements TaskRepositoryTemplate {
 
+    /** Upper bound on ids bound into a single IN list. */
+    private static final int IN_CLAUSE_CHUNK = 500;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public TaskRepoImpl(TaskRepository taskRepository) {
+    public TaskRepoImpl(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -34,13 +79,218 @@ public class TaskRepoImpl implements TaskRepositoryTemplate {
         return taskRepository.getLatestInCompletedTasks();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> getLatestCompletedTaskDtos() {
+        return taskRepository.getLatestCompletedTaskDtos();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> getLatestInCompletedTaskDtos() {
+        return taskRepository.getLatestInCompletedTaskDtos();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> getCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        return afterAt == null
+                ? taskRepository.getCompletedPage(page)
+                : taskRepository.getCompletedPageAfter(afterAt, afterId, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> getInCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        return afterAt == null
+                ? taskRepository.getInCompletedPage(page)
+                : taskRepository.getInCompletedPageAfter(afterAt, afterId, page);
+    }
+
+    /**
+     * Rows of a stream are loaded after the query has returned, when Hibernate has
+     * already restored the session's cache mode, so the query's IGNORE hint alone
+     * would still put every streamed task into the cache. The session keeps
+     * IGNORE until the stream is closed.
+     */
+    @Override
+    public Stream<Task> streamTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        return taskRepository.streamTasks(completed, createdFrom, createdTo)
+                .peek(entityManager::detach)
+                .onClose(() -> session.setCacheMode(previous));
+    }
+
     @Override
     public Optional<Task> findByTaskId(Long id) {
-        return taskRepository.findById(id);
+        return taskRepository.findById(id)
+                .or(() -> archivedTaskRepository.findById(id).map(TaskRepoImpl::toTask));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> findTaskDtosByIds(Collection<Long> ids) {
+        List<TaskResponseDto> tasks = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks(ids)) {
+            tasks.addAll(taskRepository.findTaskDtosByIds(chunk));
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean existsByTaskId(Long id) {
+        return taskRepository.existsById(id) || archivedTaskRepository.existsById(id);
     }
 
     @Override
     public Task save(Task task) {
         return taskRepository.save(task);
     }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<Task> chunk = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+            saved.addAll(taskRepository.saveAll(chunk));
+            // Send the chunk as one JDBC batch and keep the persistence context small.
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+
+    @Override
+    public int markCompleted(Collection<Long> ids, LocalDateTime completedAt) {
+        int updated = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            updated += taskRepository.markCompleted(chunk, completedAt);
+        }
+        if (updated > 0) {
+            evictAfterCommit(List.copyOf(ids));
+        }
+        return updated;
+    }
+
+    /** Drops the given tasks from the second-level cache once the current transaction commits. */
+    private void evictAfterCommit(List<Long> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(id -> cache.evict(Task.class, id));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> cache.evict(Task.class, id));
+            }
+        });
+    }
+
+    @Override
+    public List<TaskCompletionState> findCompletionStates(Collection<Long> ids) {
+        List<TaskCompletionState> states = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks(ids)) {
+            states.addAll(taskRepository.findCompletionStates(chunk));
+        }
+        if (states.size() < ids.size()) {
+            Set<Long> missing = new HashSet<>(ids);
+            states.forEach(state -> missing.remove(state.id()));
+            for (List<Long> chunk : chunks(missing)) {
+                states.addAll(archivedTaskRepository.findCompletionStates(chunk));
+            }
+        }
+        return states;
+    }
+
+    @Override
+    public List<TaskCreationTime> findCreationTimes(Collection<Long> ids) {
+        List<TaskCreationTime> times = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks(ids)) {
+            times.addAll(taskRepository.findCreationTimes(chunk));
+        }
+        return times;
+    }
+
+    @Override
+    public long countTasks() {
+        return taskRepository.count() + archivedTaskRepository.count();
+    }
+
+    @Override
+    public long countCompletedTasks() {
+        // Every archived task is completed.
+        return taskRepository.countByCompletedTrue() + archivedTaskRepository.count();
+    }
+
+    @Override
+    public long sumTimeToCompleteSeconds() {
+        return longValue(taskRepository.sumTimeToCompleteSeconds())
+                + longValue(archivedTaskRepository.sumTimeToCompleteSeconds());
+    }
+
+    @Override
+    public Stream<LocalDateTime> streamCompletionTimesSince(LocalDateTime since) {
+        return Stream.concat(taskRepository.streamCompletionTimesSince(since),
+                archivedTaskRepository.streamCompletionTimesSince(since));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskCompletionState> findArchivableTasks(LocalDateTime cutoff, LocalDateTime afterAt, Long afterId,
+                                                         int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        return afterAt == null
+                ? taskRepository.findArchivable(cutoff, page)
+                : taskRepository.findArchivableAfter(cutoff, afterAt, afterId, page);
+    }
+
+    @Override
+    @Transactional
+    public int archiveTasks(Collection<Long> ids) {
+        int moved = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            int copied = archivedTaskRepository.copyFromTasks(chunk);
+            int deleted = taskRepository.deleteByIds(chunk);
+            if (copied != deleted) {
+                // Another archiver got to some of these rows first; roll back and let the next run retry.
+                throw new IllegalStateException("Archived " + copied + " tasks but deleted " + deleted);
+            }
+            moved += deleted;
+        }
+        return moved;
+    }
+
+    @Override
+    public LocalDateTime findOldestCompletionTime() {
+        return taskRepository.findOldestCompletionTime();
+    }
+
+    private static long longValue(Number sum) {
+        return sum == null ? 0 : sum.longValue();
+    }
+
+    private static Task toTask(ArchivedTask archived) {
+        Task task = new Task();
+        task.setId(archived.getId());
+        task.setTitle(archived.getTitle());
+        task.setDescription(archived.getDescription());
+        task.setCompleted(true);
+        task.setCreatedAt(archived.getCreatedAt());
+        task.setCompletedAt(archived.getCompletedAt());
+        return task;
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CLAUSE_CHUNK) {
+            chunks.add(all.subList(from, Math.min(from + IN_CLAUSE_CHUNK, all.size())));
+        }
+        return chunks;
+    }
 }
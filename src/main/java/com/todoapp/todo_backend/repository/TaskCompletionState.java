@@ -0,0 +1,12 @@
+package com.todoapp.todo_backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a task's completion columns.
+ *
+ * <p>Selected directly by id so completion bookkeeping never has to load
+ * or manage full {@link com.todoapp.todo_backend.models.Task} entities.</p>
+ */
+public record TaskCompletionState(Long id, LocalDateTime completedAt) {
+}
@@ -0,0 +1,9 @@
+package com.todoapp.todo_backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a task's creation timestamp, selected by id.
+ */
+public record TaskCreationTime(Long id, LocalDateTime createdAt) {
+}
@@ -1,17 +1,135 @@
 package com.todoapp.todo_backend.repository;
 
 import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM Task t WHERE t.completed = true ORDER BY t.completedAt  DESC LIMIT 5")
     List<Task> getLatestCompletedTasks();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT t FROM Task t WHERE t.completed = false ORDER BY t.createdAt  DESC LIMIT 5")
     List<Task> getLatestInCompletedTasks();
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = true ORDER BY t.completedAt DESC, t.id DESC LIMIT 5")
+    List<TaskResponseDto> getLatestCompletedTaskDtos();
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = false ORDER BY t.createdAt DESC, t.id DESC LIMIT 5")
+    List<TaskResponseDto> getLatestInCompletedTaskDtos();
+
+    // Keyset pages: the seek predicate matches the ORDER BY, so each page is an index
+    // range scan on idx_task_completed_at / idx_task_completed_status regardless of depth.
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = true ORDER BY t.completedAt DESC, t.id DESC")
+    List<TaskResponseDto> getCompletedPage(Pageable limit);
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = true " +
+            "AND (t.completedAt < :at OR (t.completedAt = :at AND t.id < :id)) " +
+            "ORDER BY t.completedAt DESC, t.id DESC")
+    List<TaskResponseDto> getCompletedPageAfter(@Param("at") LocalDateTime at, @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = false ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponseDto> getInCompletedPage(Pageable limit);
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.completed = false " +
+            "AND (t.createdAt < :at OR (t.createdAt = :at AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponseDto> getInCompletedPageAfter(@Param("at") LocalDateTime at, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Forward-only stream over tasks matching the optional filters, in id order.
+     * The fetch size keeps the driver from buffering the whole result set; on MySQL
+     * this requires {@code useCursorFetch=true} on the JDBC URL.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // Full-table walks (export, search index build, stats reconcile) must not churn the entity cache.
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t WHERE (:completed IS NULL OR t.completed = :completed) " +
+            "AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR t.createdAt < :createdTo) ORDER BY t.id")
+    Stream<Task> streamTasks(@Param("completed") Boolean completed,
+                             @Param("createdFrom") LocalDateTime createdFrom,
+                             @Param("createdTo") LocalDateTime createdTo);
+
+    long countByCompletedTrue();
+
+    /** Summed completion time of every completed task, in seconds; {@code null} when there is none. */
+    @Query("SELECT SUM((t.completedAt - t.createdAt) by second) FROM Task t WHERE t.completed = true")
+    Number sumTimeToCompleteSeconds();
+
+    /** Completion timestamps since {@code since}; a range scan on idx_task_completed_at. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.completedAt FROM Task t WHERE t.completed = true AND t.completedAt >= :since")
+    Stream<LocalDateTime> streamCompletionTimesSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.todoapp.todo_backend.repository.TaskCreationTime(t.id, t.createdAt) FROM Task t WHERE t.id IN :ids")
+    List<TaskCreationTime> findCreationTimes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Native because Hibernate evicts the whole Task cache region after every JPQL
+     * bulk update. The synchronized space names no mapped table, so nothing is
+     * evicted here; callers evict the updated ids once the transaction commits.
+     * For the same reason Hibernate would not flush pending task inserts first,
+     * hence the explicit flush.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_completion"))
+    @Query(value = "UPDATE task SET completed = true, completedAt = :completedAt WHERE id IN (:ids) AND completed = false",
+            nativeQuery = true)
+    int markCompleted(@Param("ids") Collection<Long> ids, @Param("completedAt") LocalDateTime completedAt);
+
+    @Query("SELECT new com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto(t.id, t.title, t.description, t.createdAt, t.completedAt) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskResponseDto> findTaskDtosByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.todoapp.todo_backend.repository.TaskCompletionState(t.id, t.completedAt) FROM Task t WHERE t.id IN :ids")
+    List<TaskCompletionState> findCompletionStates(@Param("ids") Collection<Long> ids);
+
+    // Archival batches walk idx_task_completed_at oldest first, keyed on (completedAt, id).
+
+    @Query("SELECT new com.todoapp.todo_backend.repository.TaskCompletionState(t.id, t.completedAt) FROM Task t " +
+            "WHERE t.completed = true AND t.completedAt < :cutoff ORDER BY t.completedAt, t.id")
+    List<TaskCompletionState> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
+
+    @Query("SELECT new com.todoapp.todo_backend.repository.TaskCompletionState(t.id, t.completedAt) FROM Task t " +
+            "WHERE t.completed = true AND t.completedAt < :cutoff " +
+            "AND (t.completedAt > :at OR (t.completedAt = :at AND t.id > :id)) " +
+            "ORDER BY t.completedAt, t.id")
+    List<TaskCompletionState> findArchivableAfter(@Param("cutoff") LocalDateTime cutoff, @Param("at") LocalDateTime at,
+                                                  @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT MIN(t.completedAt) FROM Task t WHERE t.completed = true")
+    LocalDateTime findOldestCompletionTime();
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
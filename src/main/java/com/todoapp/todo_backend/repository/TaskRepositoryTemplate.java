@@ -1,10 +1,14 @@
 package com.todoapp.todo_backend.repository;
 
 import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Template interface defining custom task retrieval operations beyond standard JPA behavior.
@@ -17,7 +21,94 @@ public interface TaskRepositoryTemplate {
     List<Task> getLatestCompletedTasks();
     List<Task> getLatestInCompletedTasks();
 
+    /**
+     * Entity-free variants of the latest-task queries: rows are selected straight
+     * into response DTOs, so nothing enters the persistence context.
+     */
+    List<TaskResponseDto> getLatestCompletedTaskDtos();
+    List<TaskResponseDto> getLatestInCompletedTaskDtos();
+
+    /**
+     * Keyset-paginated listings ordered newest first. {@code afterAt}/{@code afterId}
+     * identify the last row of the previous page; pass {@code null} for the first page.
+     */
+    List<TaskResponseDto> getCompletedPage(LocalDateTime afterAt, Long afterId, int limit);
+    List<TaskResponseDto> getInCompletedPage(LocalDateTime afterAt, Long afterId, int limit);
+
+    /**
+     * Streams every task matching the optional filters in id order. Each task is
+     * detached before it is handed out, so the persistence context stays empty
+     * however many rows are read. Must be consumed inside a transaction and closed.
+     */
+    Stream<Task> streamTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo);
+
+    /**
+     * Looks a task up by id, falling back to the archive. An archived task is
+     * returned as a detached, completed {@link Task}.
+     */
     Optional<Task> findByTaskId(Long id);
 
+    /** Returns the existing tasks among {@code ids} as DTOs, in no particular order. */
+    List<TaskResponseDto> findTaskDtosByIds(Collection<Long> ids);
+
+    /** Whether a task with this id exists, in the task table or the archive. */
+    boolean existsByTaskId(Long id);
+
     Task save(Task task);
+
+    /**
+     * Persists the given tasks in JDBC batches, flushing and clearing the
+     * persistence context after each chunk. Returned tasks keep input order.
+     */
+    List<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Marks every still-incomplete task among {@code ids} as completed with a
+     * set-based update, without loading entities.
+     *
+     * @return the number of rows that changed
+     */
+    int markCompleted(Collection<Long> ids, LocalDateTime completedAt);
+
+    /**
+     * Returns the id and completion timestamp of each existing task among
+     * {@code ids}. Ids missing from the task table are looked up in the archive.
+     */
+    List<TaskCompletionState> findCompletionStates(Collection<Long> ids);
+
+    /** Returns the id and creation timestamp of each existing task among {@code ids}. */
+    List<TaskCreationTime> findCreationTimes(Collection<Long> ids);
+
+    /**
+     * Aggregates used to reconcile the task statistics, covering archived tasks
+     * too. These scan both tables and are meant for periodic reconciliation,
+     * not for serving requests.
+     */
+    long countTasks();
+    long countCompletedTasks();
+    long sumTimeToCompleteSeconds();
+
+    /**
+     * Streams the completion timestamps from {@code since} onwards, archived
+     * tasks included, unordered. Must be consumed inside a transaction and closed.
+     */
+    Stream<LocalDateTime> streamCompletionTimesSince(LocalDateTime since);
+
+    /**
+     * Completed tasks finished before {@code cutoff}, oldest first (by completion
+     * time, then id). {@code afterAt}/{@code afterId} identify the last row of
+     * the previous batch; pass {@code null} for the first batch.
+     */
+    List<TaskCompletionState> findArchivableTasks(LocalDateTime cutoff, LocalDateTime afterAt, Long afterId, int limit);
+
+    /**
+     * Moves the given tasks from the task table to the archive with set-based
+     * statements. Must run inside a transaction.
+     *
+     * @return the number of tasks moved
+     */
+    int archiveTasks(Collection<Long> ids);
+
+    /** Completion timestamp of the oldest completed task still in the task table, or {@code null}. */
+    LocalDateTime findOldestCompletionTime();
 }
@@ -0,0 +1,797 @@
+package com.todoapp.todo_backend.repository.embedded;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * In-process task storage: every task in memory, made durable by an
+ * append-only log and periodic snapshots in one directory.
+ *
+ * <p>Tasks and archived tasks are kept in {@link LongObjectMap}s keyed by the
+ * primitive id. Open tasks are also indexed by creation time and completed
+ * ones by completion time, both with the id as tie-breaker, so a latest-N
+ * listing or a keyset page is a seek plus N steps along an index. Ids are
+ * handed out in increasing order, starting at 1.</p>
+ *
+ * <p>Every write is appended to the current {@link TaskLog} as one record
+ * (a created batch, the ids completed at one instant, or the ids archived)
+ * before it is applied, so a write either fails without effect or is on its
+ * way to disk. Recovery replays those records through the same code.
+ * {@link #snapshot()} writes a compacted image of all tasks and starts a new
+ * log, after which older logs and snapshots are deleted. A full log is also
+ * followed by a new one, without a snapshot.</p>
+ *
+ * <p>Files are named by generation: {@code snapshot-<g>.bin} holds every
+ * record of the logs before {@code tasks-<g>.log}. On open the newest
+ * readable snapshot is loaded and the logs from its generation on are
+ * replayed; a torn record at the end of the last log is dropped. Readers share
+ * a read lock, writers take the write lock; {@link #force()} runs outside of
+ * both.</p>
+ */
+public final class EmbeddedTaskStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedTaskStore.class);
+
+    private static final String LOG_PREFIX = "tasks-";
+    private static final String LOG_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final int SNAPSHOT_MAGIC = 0x54534E50;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final byte CREATE = 1;
+    private static final byte COMPLETE = 2;
+    private static final byte ARCHIVE = 3;
+
+    private final Path directory;
+    private final int logGrowStep;
+    private final int maxLogSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object snapshotLock = new Object();
+
+    private final LongObjectMap<StoredTask> tasks = new LongObjectMap<>();
+    private final LongObjectMap<StoredTask> archived = new LongObjectMap<>();
+    private final NavigableSet<StoredTask> open = new TreeSet<>(StoredTask.BY_CREATED_AT);
+    private final NavigableSet<StoredTask> completed = new TreeSet<>(StoredTask.BY_COMPLETED_AT);
+    private long nextId = 1;
+
+    private long generation;
+    private long snapshotGeneration;
+    private TaskLog taskLog;
+    private boolean closed;
+
+    private EmbeddedTaskStore(Path directory, int logGrowStep, int maxLogSize) {
+        this.directory = directory;
+        this.logGrowStep = logGrowStep;
+        this.maxLogSize = maxLogSize;
+    }
+
+    /**
+     * Opens the store in {@code directory}, creating it if needed, and recovers
+     * the tasks it holds.
+     *
+     * @param logGrowStep bytes by which a log file is extended when it fills up
+     * @param maxLogSize  size at which a log is closed and a new one started
+     */
+    public static EmbeddedTaskStore open(Path directory, int logGrowStep, int maxLogSize) throws IOException {
+        if (logGrowStep <= 0 || maxLogSize <= TaskLog.FRAME) {
+            throw new IllegalArgumentException("Log sizes must be positive");
+        }
+        EmbeddedTaskStore store = new EmbeddedTaskStore(directory, logGrowStep, maxLogSize);
+        store.recover();
+        return store;
+    }
+
+    /** Open tasks, newest first by creation time then id, after the given position ({@code null} for the start). */
+    public List<StoredTask> openPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return newestFirst(open, afterAt, afterId, limit);
+    }
+
+    /** Completed tasks, newest first by completion time then id, after the given position. */
+    public List<StoredTask> completedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return newestFirst(completed, afterAt, afterId, limit);
+    }
+
+    private List<StoredTask> newestFirst(NavigableSet<StoredTask> index, LocalDateTime afterAt, Long afterId,
+                                         int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<StoredTask> view = afterAt == null || afterId == null
+                    ? index
+                    : index.headSet(StoredTask.probe(StoredTask.micros(afterAt), afterId), false);
+            return take(view.descendingIterator(), limit, Long.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Completed tasks finished before {@code cutoff}, oldest first, after the
+     * given position ({@code null} for the start).
+     */
+    public List<StoredTask> completedBefore(LocalDateTime cutoff, LocalDateTime afterAt, Long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<StoredTask> view = afterAt == null || afterId == null
+                    ? completed
+                    : completed.tailSet(StoredTask.probe(StoredTask.micros(afterAt), afterId), false);
+            return take(view.iterator(), limit, StoredTask.micros(cutoff));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<StoredTask> take(Iterator<StoredTask> tasks, int limit, long completedBefore) {
+        List<StoredTask> taken = new ArrayList<>(Math.min(limit, 64));
+        while (taken.size() < limit && tasks.hasNext()) {
+            StoredTask task = tasks.next();
+            if (task.completed() && task.completedAt() >= completedBefore) {
+                break;
+            }
+            taken.add(task);
+        }
+        return taken;
+    }
+
+    /** Completion time of the oldest completed task that is not archived, or {@code null}. */
+    public LocalDateTime oldestCompletionTime() {
+        lock.readLock().lock();
+        try {
+            return completed.isEmpty() ? null : completed.first().completedAtTime();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The task with this id, archived or not, or {@code null}. */
+    public StoredTask find(long id) {
+        lock.readLock().lock();
+        try {
+            StoredTask task = tasks.get(id);
+            return task != null ? task : archived.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The tasks among {@code ids} that exist, in no particular order; archived ones only if asked for. */
+    public List<StoredTask> findAll(Collection<Long> ids, boolean includeArchived) {
+        List<StoredTask> found = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (long id : distinct(ids)) {
+                StoredTask task = tasks.get(id);
+                if (task == null && includeArchived) {
+                    task = archived.get(id);
+                }
+                if (task != null) {
+                    found.add(task);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    /** Every task that is not archived and matches {@code filter}, in id order. */
+    public List<StoredTask> findAll(Predicate<StoredTask> filter) {
+        List<StoredTask> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            tasks.forEachValue(task -> {
+                if (filter.test(task)) {
+                    found.add(task);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort(Comparator.comparingLong(StoredTask::id));
+        return found;
+    }
+
+    /** Number of tasks, archived ones included. */
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return (long) tasks.size() + archived.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of completed tasks, archived ones included. */
+    public long countCompleted() {
+        lock.readLock().lock();
+        try {
+            return (long) completed.size() + archived.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Summed completion time of every completed task, archived ones included, in whole seconds per task. */
+    public long sumTimeToCompleteSeconds() {
+        long[] sum = new long[1];
+        lock.readLock().lock();
+        try {
+            completed.forEach(task -> sum[0] += secondsToComplete(task));
+            archived.forEachValue(task -> sum[0] += secondsToComplete(task));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sum[0];
+    }
+
+    private static long secondsToComplete(StoredTask task) {
+        return (task.completedAt() - task.createdAt()) / 1_000_000L;
+    }
+
+    /** Completion times from {@code since} onwards, archived tasks included, unordered. */
+    public List<LocalDateTime> completionTimesSince(LocalDateTime since) {
+        long from = StoredTask.micros(since);
+        List<LocalDateTime> times = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            completed.tailSet(StoredTask.probe(from, Long.MIN_VALUE), true)
+                    .forEach(task -> times.add(task.completedAtTime()));
+            archived.forEachValue(task -> {
+                if (task.completedAt() >= from) {
+                    times.add(task.completedAtTime());
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return times;
+    }
+
+    /** Bytes written to the current log, i.e. since the last snapshot or log switch. */
+    public long logSize() {
+        lock.readLock().lock();
+        try {
+            return taskLog.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the given tasks under new, increasing ids, in one log record.
+     *
+     * @return the stored tasks, in input order
+     */
+    public List<StoredTask> insert(List<StoredTask> unsaved) {
+        lock.writeLock().lock();
+        try {
+            List<StoredTask> saved = new ArrayList<>(unsaved.size());
+            long id = nextId;
+            for (StoredTask task : unsaved) {
+                saved.add(task.withId(id++));
+            }
+            if (!saved.isEmpty()) {
+                append(encodeCreate(saved));
+                saved.forEach(this::applyInsert);
+            }
+            return saved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Completes every open task among {@code ids} at {@code completedAt}.
+     *
+     * @return the number of tasks that changed
+     */
+    public int complete(Collection<Long> ids, LocalDateTime completedAt) {
+        long at = StoredTask.micros(completedAt);
+        lock.writeLock().lock();
+        try {
+            long[] changed = select(ids, id -> {
+                StoredTask task = tasks.get(id);
+                return task != null && !task.completed();
+            });
+            if (changed.length > 0) {
+                append(encodeIds(COMPLETE, at, changed));
+                for (long id : changed) {
+                    applyComplete(id, at);
+                }
+            }
+            return changed.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the completed tasks among {@code ids} to the archive, where they
+     * are found by id but no longer listed.
+     *
+     * @return the number of tasks moved
+     */
+    public int archive(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            long[] moved = select(ids, id -> {
+                StoredTask task = tasks.get(id);
+                return task != null && task.completed();
+            });
+            if (moved.length > 0) {
+                append(encodeIds(ARCHIVE, 0, moved));
+                for (long id : moved) {
+                    applyArchive(id);
+                }
+            }
+            return moved.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long[] select(Collection<Long> ids, LongPredicate condition) {
+        long[] selected = distinct(ids);
+        int count = 0;
+        for (long id : selected) {
+            if (condition.test(id)) {
+                selected[count++] = id;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private static long[] distinct(Collection<Long> ids) {
+        long[] sorted = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            sorted[i++] = id;
+        }
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int j = 0; j < sorted.length; j++) {
+            if (j == 0 || sorted[j] != sorted[j - 1]) {
+                sorted[count++] = sorted[j];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    private void applyInsert(StoredTask task) {
+        tasks.put(task.id(), task);
+        (task.completed() ? completed : open).add(task);
+        nextId = Math.max(nextId, task.id() + 1);
+    }
+
+    private void applyComplete(long id, long at) {
+        StoredTask task = tasks.get(id);
+        if (task == null || task.completed()) {
+            return;
+        }
+        StoredTask done = task.withCompletedAt(at);
+        open.remove(task);
+        completed.add(done);
+        tasks.put(id, done);
+    }
+
+    private void applyArchive(long id) {
+        StoredTask task = tasks.remove(id);
+        if (task == null) {
+            return;
+        }
+        (task.completed() ? completed : open).remove(task);
+        archived.put(id, task);
+    }
+
+    /** Writes every record appended so far through to the storage device. */
+    public void force() {
+        TaskLog current;
+        lock.readLock().lock();
+        try {
+            current = taskLog;
+        } finally {
+            lock.readLock().unlock();
+        }
+        current.force();
+    }
+
+    /**
+     * Writes a snapshot of all tasks and starts a new log, then deletes the
+     * logs and snapshots it replaces. Writes carry on while the snapshot is
+     * written; only taking the copy to write blocks them.
+     *
+     * @return {@code false} if nothing was written since the last snapshot
+     */
+    public boolean snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            List<StoredTask> live;
+            List<StoredTask> archive;
+            long next;
+            long covered;
+            lock.writeLock().lock();
+            try {
+                if (closed || (taskLog.size() == 0 && snapshotGeneration == generation)) {
+                    return false;
+                }
+                live = new ArrayList<>(tasks.size());
+                tasks.forEachValue(live::add);
+                archive = new ArrayList<>(archived.size());
+                archived.forEachValue(archive::add);
+                next = nextId;
+                if (taskLog.size() > 0) {
+                    startLog(generation + 1);
+                }
+                covered = generation;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            writeSnapshot(covered, live, archive, next);
+            snapshotGeneration = covered;
+            deleteBefore(covered);
+            log.info("Wrote task snapshot {} with {} tasks and {} archived tasks", covered, live.size(), archive.size());
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (!closed) {
+                closed = true;
+                taskLog.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Appends a record, starting a new log first when the current one is full. Caller holds the write lock. */
+    private void append(byte[] record) {
+        if (closed) {
+            throw new IllegalStateException("Task store is closed");
+        }
+        try {
+            if (!taskLog.append(record)) {
+                startLog(generation + 1);
+                if (!taskLog.append(record)) {
+                    throw new IllegalStateException("Record of " + record.length + " bytes exceeds the maximum log size");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + taskLog.path(), e);
+        }
+    }
+
+    private void startLog(long newGeneration) {
+        try {
+            TaskLog next = TaskLog.open(logPath(newGeneration), logGrowStep, maxLogSize, record -> {
+                throw new IllegalStateException(logPath(newGeneration) + " already holds records");
+            });
+            if (taskLog != null) {
+                taskLog.close();
+            }
+            taskLog = next;
+            generation = newGeneration;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start log " + newGeneration, e);
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path leftover : files.filter(file -> file.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+                // A snapshot that was still being written; the logs it would have replaced are all still there.
+                Files.delete(leftover);
+            }
+        }
+        List<Long> snapshots = generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long base = 0;
+        for (int i = snapshots.size() - 1; i >= 0 && base == 0; i--) {
+            try {
+                readSnapshot(snapshotPath(snapshots.get(i)));
+                base = snapshots.get(i);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable task snapshot {}", snapshotPath(snapshots.get(i)), e);
+                clear();
+            }
+        }
+        long first = base == 0 ? 1 : base;
+        List<Long> logs = generations(LOG_PREFIX, LOG_SUFFIX).stream().filter(g -> g >= first).toList();
+        for (int i = 0; i < logs.size(); i++) {
+            if (logs.get(i) != first + i) {
+                throw new IllegalStateException("Task log " + logPath(first + i) + " is missing; cannot recover "
+                        + directory);
+            }
+            TaskLog opened = TaskLog.open(logPath(logs.get(i)), logGrowStep, maxLogSize, this::replay);
+            if (opened.discarded() > 0) {
+                if (i < logs.size() - 1) {
+                    opened.close();
+                    throw new IllegalStateException("Task log " + opened.path() + " is damaged before its end");
+                }
+                log.warn("Dropped {} bytes of an incomplete write at the end of {}", opened.discarded(), opened.path());
+            }
+            if (i < logs.size() - 1) {
+                opened.close();
+            } else {
+                taskLog = opened;
+                generation = logs.get(i);
+            }
+        }
+        snapshotGeneration = base;
+        if (taskLog == null) {
+            startLog(first);
+        }
+        log.info("Recovered {} tasks and {} archived tasks from {}", tasks.size(), archived.size(), directory);
+    }
+
+    private void replay(ByteBuffer record) {
+        byte type = record.get();
+        switch (type) {
+            case CREATE -> {
+                int count = record.getInt();
+                for (int i = 0; i < count; i++) {
+                    applyInsert(new StoredTask(record.getLong(), readString(record), readString(record),
+                            record.getLong(), record.getLong()));
+                }
+            }
+            case COMPLETE -> {
+                long at = record.getLong();
+                int count = record.getInt();
+                for (int i = 0; i < count; i++) {
+                    applyComplete(record.getLong(), at);
+                }
+            }
+            case ARCHIVE -> {
+                record.getLong();
+                int count = record.getInt();
+                for (int i = 0; i < count; i++) {
+                    applyArchive(record.getLong());
+                }
+            }
+            default -> throw new IllegalStateException("Unknown task log record type " + type);
+        }
+    }
+
+    private void clear() {
+        tasks.clear();
+        archived.clear();
+        open.clear();
+        completed.clear();
+        nextId = 1;
+    }
+
+    private static byte[] encodeCreate(List<StoredTask> created) {
+        List<byte[]> strings = new ArrayList<>(created.size() * 2);
+        int size = 1 + 4;
+        for (StoredTask task : created) {
+            byte[] title = bytes(task.title());
+            byte[] description = bytes(task.description());
+            strings.add(title);
+            strings.add(description);
+            size += 3 * 8 + 2 * 4 + length(title) + length(description);
+        }
+        ByteBuffer record = ByteBuffer.allocate(size).put(CREATE).putInt(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            StoredTask task = created.get(i);
+            record.putLong(task.id());
+            putString(record, strings.get(2 * i));
+            putString(record, strings.get(2 * i + 1));
+            record.putLong(task.createdAt()).putLong(task.completedAt());
+        }
+        return record.array();
+    }
+
+    private static byte[] encodeIds(byte type, long at, long[] ids) {
+        ByteBuffer record = ByteBuffer.allocate(1 + 8 + 4 + 8 * ids.length).put(type).putLong(at).putInt(ids.length);
+        for (long id : ids) {
+            record.putLong(id);
+        }
+        return record.array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putString(ByteBuffer record, byte[] value) {
+        if (value == null) {
+            record.putInt(-1);
+        } else {
+            record.putInt(value.length).put(value);
+        }
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        record.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private void writeSnapshot(long covered, List<StoredTask> live, List<StoredTask> archive, long next)
+            throws IOException {
+        Path target = snapshotPath(covered);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BufferedOutputStream buffered = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(next);
+            writeTasks(out, live);
+            writeTasks(out, archive);
+            out.flush();
+            new DataOutputStream(buffered).writeInt((int) checked.getChecksum().getValue());
+            buffered.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory();
+    }
+
+    private static void writeTasks(DataOutputStream out, List<StoredTask> tasks) throws IOException {
+        out.writeInt(tasks.size());
+        for (StoredTask task : tasks) {
+            out.writeLong(task.id());
+            writeString(out, task.title());
+            writeString(out, task.description());
+            out.writeLong(task.createdAt());
+            out.writeLong(task.completedAt());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = bytes(value);
+        out.writeInt(bytes == null ? -1 : bytes.length);
+        if (bytes != null) {
+            out.write(bytes);
+        }
+    }
+
+    /** Loads a snapshot, or fails without changing anything if it is incomplete or damaged. */
+    private void readSnapshot(Path path) throws IOException {
+        try (InputStream raw = Files.newInputStream(path)) {
+            BufferedInputStream buffered = new BufferedInputStream(raw, 1 << 16);
+            CheckedInputStream checked = new CheckedInputStream(buffered, new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException(path + " is not a task snapshot");
+            }
+            long next = in.readLong();
+            List<StoredTask> live = readTasks(in);
+            List<StoredTask> archive = readTasks(in);
+            int expected = (int) checked.getChecksum().getValue();
+            DataInputStream trailer = new DataInputStream(buffered);
+            if (trailer.readInt() != expected || trailer.read() != -1) {
+                throw new IOException(path + " is damaged");
+            }
+            live.forEach(this::applyInsert);
+            archive.forEach(task -> archived.put(task.id(), task));
+            archive.forEach(task -> nextId = Math.max(nextId, task.id() + 1));
+            nextId = Math.max(nextId, next);
+        } catch (EOFException e) {
+            throw new IOException(path + " is incomplete", e);
+        }
+    }
+
+    private static List<StoredTask> readTasks(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative task count in snapshot");
+        }
+        List<StoredTask> tasks = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            tasks.add(new StoredTask(in.readLong(), readString(in), readString(in), in.readLong(), in.readLong()));
+        }
+        return tasks;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private void deleteBefore(long covered) {
+        try {
+            for (long old : generations(LOG_PREFIX, LOG_SUFFIX)) {
+                if (old < covered) {
+                    Files.deleteIfExists(logPath(old));
+                }
+            }
+            for (long old : generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+                if (old < covered) {
+                    Files.deleteIfExists(snapshotPath(old));
+                }
+            }
+        } catch (IOException e) {
+            // Harmless: recovery starts from the newest snapshot and skips older files.
+            log.warn("Could not delete task files replaced by snapshot {}", covered, e);
+        }
+    }
+
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform; the rename is then only as durable as the file system makes it.
+            log.debug("Could not sync directory {}", directory, e);
+        }
+    }
+
+    private List<Long> generations(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> name.substring(prefix.length(), name.length() - suffix.length()))
+                    .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve(String.format("%s%010d%s", LOG_PREFIX, logGeneration, LOG_SUFFIX));
+    }
+
+    private Path snapshotPath(long snapshot) {
+        return directory.resolve(String.format("%s%010d%s", SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX));
+    }
+}
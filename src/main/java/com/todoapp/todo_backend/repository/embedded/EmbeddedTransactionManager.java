@@ -0,0 +1,79 @@
+package com.todoapp.todo_backend.repository.embedded;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction manager for {@link EmbeddedTaskStore}, so {@code @Transactional}
+ * services and the after-commit event listeners work as they do on JPA.
+ *
+ * <p>A transaction marks a commit point, not an isolation unit: each store
+ * write is applied and logged when it is made, as with auto-commit, and a
+ * rollback cannot take it back. Callers must therefore not retry a failed
+ * transaction's writes, as {@code TaskWriteBatcher} does on JPA. Commit forces the log to disk when
+ * {@code forceOnCommit} is set, so a committed write survives a crash of the
+ * machine and not only of the process. Concurrent commits share the work of
+ * one force.</p>
+ */
+public class EmbeddedTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final EmbeddedTaskStore store;
+    private final boolean forceOnCommit;
+
+    public EmbeddedTransactionManager(EmbeddedTaskStore store, boolean forceOnCommit) {
+        this.store = store;
+        this.forceOnCommit = forceOnCommit;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new EmbeddedTransaction(TransactionSynchronizationManager.hasResource(store));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((EmbeddedTransaction) transaction).existing;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionSynchronizationManager.bindResource(store, transaction);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return TransactionSynchronizationManager.unbindResource(store);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(store, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        if (forceOnCommit) {
+            store.force();
+        }
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // Nothing is held back until commit, so there is nothing to discard.
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        // See doRollback: the outer transaction has nothing to discard either.
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(store);
+    }
+
+    private record EmbeddedTransaction(boolean existing) {
+    }
+}
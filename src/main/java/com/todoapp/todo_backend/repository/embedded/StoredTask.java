@@ -0,0 +1,70 @@
+package com.todoapp.todo_backend.repository.embedded;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+
+/**
+ * Immutable copy of a task as held by {@link EmbeddedTaskStore}.
+ *
+ * <p>Timestamps are microseconds since the epoch, read as UTC, which is the
+ * precision the task table keeps. Completing a task replaces its record
+ * rather than changing it, so lists handed out by the store never change
+ * under the caller.</p>
+ */
+public record StoredTask(long id, String title, String description, long createdAt, long completedAt) {
+
+    /** {@link #completedAt} of a task that is not completed. */
+    public static final long NOT_COMPLETED = Long.MIN_VALUE;
+
+    /** Order of the open-task index: creation time, then id. */
+    static final Comparator<StoredTask> BY_CREATED_AT =
+            Comparator.comparingLong(StoredTask::createdAt).thenComparingLong(StoredTask::id);
+
+    /** Order of the completed-task index: completion time, then id. */
+    static final Comparator<StoredTask> BY_COMPLETED_AT =
+            Comparator.comparingLong(StoredTask::completedAt).thenComparingLong(StoredTask::id);
+
+    /** A task that has no id yet; {@link EmbeddedTaskStore#insert} assigns one. */
+    public static StoredTask unsaved(String title, String description, LocalDateTime createdAt,
+                                     LocalDateTime completedAt) {
+        return new StoredTask(0, title, description, micros(createdAt),
+                completedAt == null ? NOT_COMPLETED : micros(completedAt));
+    }
+
+    public boolean completed() {
+        return completedAt != NOT_COMPLETED;
+    }
+
+    public LocalDateTime createdAtTime() {
+        return time(createdAt);
+    }
+
+    /** Completion time, or {@code null} while the task is open. */
+    public LocalDateTime completedAtTime() {
+        return completed() ? time(completedAt) : null;
+    }
+
+    StoredTask withId(long newId) {
+        return new StoredTask(newId, title, description, createdAt, completedAt);
+    }
+
+    StoredTask withCompletedAt(long at) {
+        return new StoredTask(id, title, description, createdAt, at);
+    }
+
+    /** Search key for the indexes: sorts like a task at {@code at} with id {@code id}. */
+    static StoredTask probe(long at, long id) {
+        return new StoredTask(id, null, null, at, at);
+    }
+
+    static long micros(LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                time.getNano() / 1_000);
+    }
+
+    static LocalDateTime time(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,196 @@
+package com.todoapp.todo_backend.repository.embedded;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped, append-only file of {@link EmbeddedTaskStore} records.
+ *
+ * <p>Each record is framed as its length and a CRC-32C checksum followed by
+ * the record bytes. Appends are copies into the mapping, so they survive a
+ * crash of the process as soon as they return; {@link #force()} also makes
+ * them survive a crash of the machine. The file is grown in steps of
+ * {@code growStep} bytes, and the unwritten rest reads as zeros, which marks
+ * the end of the log.</p>
+ *
+ * <p>On open every intact record is handed to the replay callback. A record
+ * whose frame runs past the end of the file or whose checksum does not match
+ * was torn by a crash; it and everything after it are cleared, and appends
+ * continue where it began.</p>
+ */
+final class TaskLog implements Closeable {
+
+    /** Length and checksum in front of every record. */
+    static final int FRAME = 8;
+
+    private static final int CLEAR_CHUNK = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int growStep;
+    private final int maxSize;
+    private final int discarded;
+    private MappedByteBuffer buffer;
+    private int position;
+    private int forced;
+    private boolean closed;
+
+    private TaskLog(Path path, FileChannel channel, int growStep, int maxSize, Consumer<ByteBuffer> replay)
+            throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.growStep = growStep;
+        this.maxSize = maxSize;
+        long size = channel.size();
+        if (size > maxSize) {
+            throw new IOException(path + " is larger than the maximum log size of " + maxSize + " bytes");
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, Math.min(growStep, maxSize)));
+        this.position = replay(replay);
+        this.forced = position;
+        this.discarded = clearFrom(position);
+    }
+
+    /** Opens or creates the log at {@code path}, replaying the records it already holds. */
+    static TaskLog open(Path path, int growStep, int maxSize, Consumer<ByteBuffer> replay) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new TaskLog(path, channel, growStep, maxSize, replay);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /** Bytes of intact records in the log. */
+    synchronized int size() {
+        return position;
+    }
+
+    /** Bytes cleared on open because they followed the last intact record. */
+    int discarded() {
+        return discarded;
+    }
+
+    /**
+     * Appends one record.
+     *
+     * @return {@code false} if the record does not fit below the maximum log
+     *         size; nothing is written then
+     */
+    synchronized boolean append(byte[] record) throws IOException {
+        int needed = FRAME + record.length;
+        if (needed > maxSize - position) {
+            return false;
+        }
+        if (needed > buffer.capacity() - position) {
+            grow(position + needed);
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(record);
+        // Record first, length last: until the length is in place the frame still reads as the end of the log.
+        buffer.putInt(position + 4, (int) checksum.getValue());
+        buffer.put(position + FRAME, record);
+        buffer.putInt(position, record.length);
+        position += needed;
+        return true;
+    }
+
+    /** Writes everything appended so far through to the storage device. */
+    void force() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        synchronized (this) {
+            if (closed || forced == position) {
+                return;
+            }
+            target = buffer;
+            from = forced;
+            to = position;
+        }
+        // Outside the lock, so appends carry on while the pages are written out.
+        target.force(from, to - from);
+        synchronized (this) {
+            forced = Math.max(forced, to);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        buffer.force();
+        forced = position;
+        closed = true;
+        channel.close();
+    }
+
+    private int replay(Consumer<ByteBuffer> replay) {
+        int limit = buffer.capacity();
+        int at = 0;
+        while (limit - at >= FRAME) {
+            int length = buffer.getInt(at);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > limit - at - FRAME) {
+                break;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(buffer.slice(at + FRAME, length));
+            if ((int) checksum.getValue() != buffer.getInt(at + 4)) {
+                break;
+            }
+            replay.accept(buffer.slice(at + FRAME, length).asReadOnlyBuffer());
+            at += FRAME + length;
+        }
+        return at;
+    }
+
+    /** Zeroes whatever follows {@code from}, so a later open cannot mistake it for records. */
+    private int clearFrom(int from) {
+        int cleared = 0;
+        byte[] chunk = new byte[CLEAR_CHUNK];
+        byte[] zeros = new byte[CLEAR_CHUNK];
+        for (int at = from; at < buffer.capacity(); at += CLEAR_CHUNK) {
+            int length = Math.min(CLEAR_CHUNK, buffer.capacity() - at);
+            buffer.get(at, chunk, 0, length);
+            int last = length - 1;
+            while (last >= 0 && chunk[last] == 0) {
+                last--;
+            }
+            if (last >= 0) {
+                buffer.put(at, zeros, 0, length);
+                cleared = at + last + 1 - from;
+            }
+        }
+        if (cleared > 0) {
+            buffer.force();
+        }
+        return cleared;
+    }
+
+    private void grow(int needed) throws IOException {
+        long capacity = buffer.capacity();
+        while (capacity < needed) {
+            capacity += growStep;
+        }
+        buffer.force();
+        forced = position;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(capacity, maxSize));
+    }
+}
@@ -0,0 +1,131 @@
+package com.todoapp.todo_backend.reactive;
+
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskBatchRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskIdsRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.presentation.TaskController;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * WebFlux counterpart of {@link TaskController}, with the same paths, status
+ * codes, validators and bodies; see there for the API documentation.
+ *
+ * <p>Search, statistics, import and the change stream are served by in-memory
+ * components of the servlet stack and are not offered here. Responses are
+ * JSON only, and write-behind batching does not apply: writes never block a
+ * thread, so there is nothing to group them for.</p>
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin("*")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @GetMapping("/completed")
+    public Mono<ResponseEntity<List<TaskResponseDto>>> getLatest(ServerWebExchange exchange) {
+        return conditionalListing(exchange, "completed", taskService::getLatestTasks);
+    }
+
+    @GetMapping("/inCompleted")
+    public Mono<ResponseEntity<List<TaskResponseDto>>> getLatestInCompleted(ServerWebExchange exchange) {
+        return conditionalListing(exchange, "inCompleted", taskService::getLatestInCompleted);
+    }
+
+    @GetMapping("/completed/history")
+    public Mono<ResponseEntity<TaskPageResponseDto>> getCompletedHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return taskService.getCompletedPage(cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/inCompleted/history")
+    public Mono<ResponseEntity<TaskPageResponseDto>> getInCompletedHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return taskService.getInCompletedPage(cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponseDto>> getTask(@PathVariable Long id) {
+        return taskService.getTask(id).map(ResponseEntity::ok);
+    }
+
+    /** Each task is written as soon as its row arrives; R2DBC only fetches as fast as the client reads. */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponseDto> export(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        return taskService.exportTasks(completed, createdFrom, createdTo);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponseDto>> create(
+            @Valid @RequestBody TaskRequestDto dto
+    ) {
+        return taskService.createTask(dto)
+                .map(created -> ResponseEntity.created(URI.create("/api/tasks/" + created.getId())).body(created));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<TaskResponseDto>>> createBatch(
+            @Valid @RequestBody TaskBatchRequestDto dto
+    ) {
+        return taskService.createTasks(dto.getTasks())
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PostMapping("/{id}/done")
+    public Mono<ResponseEntity<Void>> done(@PathVariable Long id) {
+        return taskService.markDone(id).thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/done")
+    public Mono<ResponseEntity<TaskCompletionResultDto>> doneAll(
+            @Valid @RequestBody TaskIdsRequestDto dto
+    ) {
+        return taskService.markDone(dto.getIds()).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Answers a poll of one of the latest-task listings, comparing the change
+     * version with the request's validators before anything is loaded. An
+     * empty result tells WebFlux the 304 has already been set on the exchange.
+     */
+    private Mono<ResponseEntity<List<TaskResponseDto>>> conditionalListing(
+            ServerWebExchange exchange, String scope, Supplier<Mono<List<TaskResponseDto>>> listing) {
+        TaskChangeVersion version = taskService.getChangeVersion();
+        if (exchange.checkNotModified(version.etag(scope), version.changedAt())) {
+            return Mono.empty();
+        }
+        return listing.get().map(tasks -> ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(tasks));
+    }
+}
@@ -0,0 +1,290 @@
+package com.todoapp.todo_backend.reactive;
+
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Implementation of {@link ReactiveTaskRepositoryTemplate} with hand-written SQL
+ * over {@link DatabaseClient}.
+ *
+ * <p>Reads and writes the tables Hibernate maps for the servlet stack, so both
+ * stacks can run against the same database. Ids come from {@code task_seq} in
+ * blocks of {@link #ID_BLOCK_SIZE}, interpreted as Hibernate's pooled optimizer
+ * does: a sequence value {@code v} reserves {@code v-49..v}. Ids handed out by
+ * either stack therefore never collide. On MySQL the sequence is Hibernate's
+ * one-row emulation table, claimed in a transaction of its own so the row lock
+ * is not held for the rest of the caller's transaction.</p>
+ */
+@Service
+public class ReactiveTaskRepoImpl implements ReactiveTaskRepositoryTemplate {
+
+    /** Must match the allocationSize of the {@code task_seq} generator on {@link Task}. */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final int LATEST_LIMIT = 5;
+    /** Rows per multi-row INSERT, as the servlet stack's JDBC batch size. */
+    private static final int INSERT_CHUNK = 50;
+    private static final String COLUMNS = "id, title, description, createdAt, completedAt";
+
+    private final DatabaseClient client;
+    private final TransactionalOperator separateTransaction;
+    private final boolean tableSequence;
+
+    /** Unused ids of the last block taken from the sequence, {@code nextId..lastId}. */
+    private final Object idLock = new Object();
+    private long nextId = 1;
+    private long lastId = 0;
+
+    public ReactiveTaskRepoImpl(DatabaseClient client, ConnectionFactory connectionFactory,
+                                ReactiveTransactionManager transactionManager) {
+        this.client = client;
+        this.separateTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        String database = connectionFactory.getMetadata().getName().toLowerCase(Locale.ROOT);
+        this.tableSequence = database.contains("mysql") || database.contains("mariadb");
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getLatestCompletedTaskDtos() {
+        return client.sql("SELECT " + COLUMNS + " FROM task WHERE completed = TRUE " +
+                        "ORDER BY completedAt DESC LIMIT " + LATEST_LIMIT)
+                .map(ReactiveTaskRepoImpl::toDto)
+                .all();
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getLatestInCompletedTaskDtos() {
+        return client.sql("SELECT " + COLUMNS + " FROM task WHERE completed = FALSE " +
+                        "ORDER BY createdAt DESC LIMIT " + LATEST_LIMIT)
+                .map(ReactiveTaskRepoImpl::toDto)
+                .all();
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return page("completed = TRUE", "completedAt", afterAt, afterId, limit);
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getInCompletedPage(LocalDateTime afterAt, Long afterId, int limit) {
+        return page("completed = FALSE", "createdAt", afterAt, afterId, limit);
+    }
+
+    /** Same seek predicate as the servlet stack's keyset queries, so pages stay index range scans. */
+    private Flux<TaskResponseDto> page(String filter, String sortColumn, LocalDateTime afterAt, Long afterId,
+                                       int limit) {
+        String order = " ORDER BY " + sortColumn + " DESC, id DESC LIMIT :limit";
+        GenericExecuteSpec spec;
+        if (afterAt == null || afterId == null) {
+            spec = client.sql("SELECT " + COLUMNS + " FROM task WHERE " + filter + order);
+        } else {
+            spec = client.sql("SELECT " + COLUMNS + " FROM task WHERE " + filter +
+                            " AND (" + sortColumn + " < :at OR (" + sortColumn + " = :at AND id < :id))" + order)
+                    .bind("at", afterAt)
+                    .bind("id", afterId);
+        }
+        return spec.bind("limit", limit).map(ReactiveTaskRepoImpl::toDto).all();
+    }
+
+    @Override
+    public Flux<TaskResponseDto> streamTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        // Only the filters given are rendered: H2 cannot infer a type for "? IS NULL".
+        Map<String, Object> filters = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM task WHERE 1 = 1");
+        if (completed != null) {
+            sql.append(" AND completed = :completed");
+            filters.put("completed", completed);
+        }
+        if (createdFrom != null) {
+            sql.append(" AND createdAt >= :createdFrom");
+            filters.put("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            sql.append(" AND createdAt < :createdTo");
+            filters.put("createdTo", createdTo);
+        }
+        GenericExecuteSpec spec = client.sql(sql.append(" ORDER BY id").toString());
+        for (Map.Entry<String, Object> filter : filters.entrySet()) {
+            spec = spec.bind(filter.getKey(), filter.getValue());
+        }
+        return spec.map(ReactiveTaskRepoImpl::toDto).all();
+    }
+
+    @Override
+    public Mono<TaskResponseDto> findByTaskId(Long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM task WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepoImpl::toDto)
+                .first()
+                .switchIfEmpty(Mono.defer(() -> client.sql("SELECT " + COLUMNS + " FROM task_archive WHERE id = :id")
+                        .bind("id", id)
+                        .map(ReactiveTaskRepoImpl::toDto)
+                        .first()));
+    }
+
+    @Override
+    public Mono<Boolean> existsByTaskId(Long id) {
+        return client.sql("SELECT id FROM task WHERE id = :id UNION ALL SELECT id FROM task_archive WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("id", Long.class))
+                .first()
+                .hasElement();
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        return saveAll(List.of(task)).single();
+    }
+
+    @Override
+    public Flux<Task> saveAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return Flux.empty();
+        }
+        return allocateIds(tasks.size()).flatMapMany(ids -> {
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(ids.get(i));
+            }
+            List<List<Task>> chunks = new ArrayList<>();
+            for (int from = 0; from < tasks.size(); from += INSERT_CHUNK) {
+                chunks.add(tasks.subList(from, Math.min(from + INSERT_CHUNK, tasks.size())));
+            }
+            return Flux.fromIterable(chunks).concatMap(this::insert).thenMany(Flux.fromIterable(tasks));
+        });
+    }
+
+    private Mono<Long> insert(List<Task> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO task (id, title, description, completed, createdAt, completedAt) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:id").append(i).append(", :title").append(i)
+                    .append(", :description").append(i).append(", :completed").append(i)
+                    .append(", :createdAt").append(i).append(", :completedAt").append(i).append(')');
+        }
+        GenericExecuteSpec spec = client.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            Task task = chunk.get(i);
+            spec = spec.bind("id" + i, task.getId())
+                    .bind("title" + i, task.getTitle())
+                    .bind("completed" + i, Boolean.TRUE.equals(task.getCompleted()))
+                    .bind("createdAt" + i, task.getCreatedAt());
+            spec = task.getDescription() == null
+                    ? spec.bindNull("description" + i, String.class)
+                    : spec.bind("description" + i, task.getDescription());
+            spec = task.getCompletedAt() == null
+                    ? spec.bindNull("completedAt" + i, LocalDateTime.class)
+                    : spec.bind("completedAt" + i, task.getCompletedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> markCompleted(Collection<Long> ids, LocalDateTime completedAt) {
+        return client.sql("UPDATE task SET completed = TRUE, completedAt = :completedAt " +
+                        "WHERE id IN (:ids) AND completed = FALSE")
+                .bind("completedAt", completedAt)
+                .bind("ids", List.copyOf(ids))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Flux<TaskCompletionState> findCompletionStates(Collection<Long> ids) {
+        return client.sql("SELECT id, completedAt FROM task WHERE id IN (:ids) " +
+                        "UNION ALL SELECT id, completedAt FROM task_archive WHERE id IN (:ids)")
+                .bind("ids", List.copyOf(ids))
+                .map(row -> new TaskCompletionState(row.get("id", Long.class), row.get("completedAt", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * Hands out {@code count} ids: first what is left of the current block, then
+     * new blocks until there are enough. What the last block does not use is
+     * kept for the next call; ids given up along the way just leave gaps.
+     */
+    private Mono<List<Long>> allocateIds(int count) {
+        return Mono.defer(() -> {
+            List<Long> ids = new ArrayList<>(count);
+            synchronized (idLock) {
+                while (ids.size() < count && nextId <= lastId) {
+                    ids.add(nextId++);
+                }
+            }
+            return fill(ids, count);
+        });
+    }
+
+    private Mono<List<Long>> fill(List<Long> ids, int count) {
+        if (ids.size() == count) {
+            return Mono.just(ids);
+        }
+        return nextBlock().flatMap(high -> {
+            // The very first value of the sequence is 1, which reserves nothing below it.
+            long id = Math.max(1, high - ID_BLOCK_SIZE + 1);
+            while (id <= high && ids.size() < count) {
+                ids.add(id++);
+            }
+            if (id <= high) {
+                keepRemainder(id, high);
+            }
+            return fill(ids, count);
+        });
+    }
+
+    private void keepRemainder(long from, long to) {
+        synchronized (idLock) {
+            if (to - from > lastId - nextId) {
+                nextId = from;
+                lastId = to;
+            }
+        }
+    }
+
+    /** Takes the next value of {@code task_seq}: the highest id of a new block. */
+    private Mono<Long> nextBlock() {
+        if (!tableSequence) {
+            return client.sql("SELECT NEXT VALUE FOR task_seq")
+                    .map(row -> row.get(0, Long.class))
+                    .one();
+        }
+        return client.sql("SELECT next_val FROM task_seq FOR UPDATE")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(high -> client.sql("UPDATE task_seq SET next_val = :next WHERE next_val = :high")
+                        .bind("next", high + ID_BLOCK_SIZE)
+                        .bind("high", high)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(high))
+                .as(separateTransaction::transactional);
+    }
+
+    private static TaskResponseDto toDto(Readable row) {
+        return new TaskResponseDto(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("createdAt", LocalDateTime.class),
+                row.get("completedAt", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.todoapp.todo_backend.reactive;
+
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link TaskRepositoryTemplate} for the non-blocking stack.
+ *
+ * <p>Covers the queries behind the task API, with the same semantics as their
+ * blocking namesakes. Reads are selected straight into response DTOs. Nothing
+ * touches the database until the returned publisher is subscribed to.</p>
+ */
+public interface ReactiveTaskRepositoryTemplate {
+
+    Flux<TaskResponseDto> getLatestCompletedTaskDtos();
+    Flux<TaskResponseDto> getLatestInCompletedTaskDtos();
+
+    /**
+     * Keyset-paginated listings ordered newest first. {@code afterAt}/{@code afterId}
+     * identify the last row of the previous page; pass {@code null} for the first page.
+     */
+    Flux<TaskResponseDto> getCompletedPage(LocalDateTime afterAt, Long afterId, int limit);
+    Flux<TaskResponseDto> getInCompletedPage(LocalDateTime afterAt, Long afterId, int limit);
+
+    /**
+     * Every task matching the optional filters in id order. Rows are fetched as
+     * the subscriber requests them.
+     */
+    Flux<TaskResponseDto> streamTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo);
+
+    /** Looks a task up by id, falling back to the archive. */
+    Mono<TaskResponseDto> findByTaskId(Long id);
+
+    /** Whether a task with this id exists, in the task table or the archive. */
+    Mono<Boolean> existsByTaskId(Long id);
+
+    /** Inserts a new task and sets its id. */
+    Mono<Task> save(Task task);
+
+    /** Inserts new tasks with multi-row inserts and sets their ids; emits them in input order. */
+    Flux<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Marks every still-incomplete task among {@code ids} as completed with a
+     * set-based update.
+     *
+     * @return the number of rows that changed
+     */
+    Mono<Long> markCompleted(Collection<Long> ids, LocalDateTime completedAt);
+
+    /**
+     * Emits the id and completion timestamp of each existing task among
+     * {@code ids}, archived tasks included.
+     */
+    Flux<TaskCompletionState> findCompletionStates(Collection<Long> ids);
+}
@@ -0,0 +1,230 @@
+package com.todoapp.todo_backend.reactive;
+
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.business.TaskCursor;
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.exception.ResourceNotFoundException;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Reactive counterpart of {@link TaskService}: the same business rules on
+ * {@link Mono}/{@link Flux}, so no request ever holds a thread while it waits
+ * for the database.
+ *
+ * <p>There is no latest-task cache: each listing is a five-row index scan and
+ * unchanged listings are already answered with 304 from the change version,
+ * which advances once a write has committed, as on the servlet stack.</p>
+ */
+@Service
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepositoryTemplate taskRepositoryTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final AtomicReference<TaskChangeVersion> version = new AtomicReference<>(TaskChangeVersion.initial());
+
+    @Value("${todo.pagination.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${todo.pagination.max-size:100}")
+    private int maxPageSize = 100;
+
+    public ReactiveTaskService(ReactiveTaskRepositoryTemplate taskRepositoryTemplate,
+                               TransactionalOperator transactionalOperator) {
+        this.taskRepositoryTemplate = taskRepositoryTemplate;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<List<TaskResponseDto>> getLatestTasks() {
+        return taskRepositoryTemplate.getLatestCompletedTaskDtos().collectList();
+    }
+
+    public Mono<List<TaskResponseDto>> getLatestInCompleted() {
+        return taskRepositoryTemplate.getLatestInCompletedTaskDtos().collectList();
+    }
+
+    /** Emits {@link ResourceNotFoundException} if no task has the given id. */
+    public Mono<TaskResponseDto> getTask(Long id) {
+        return taskRepositoryTemplate.findByTaskId(id).switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    /** Change version of the latest-task listings; see {@link TaskService#getChangeVersion()}. */
+    public TaskChangeVersion getChangeVersion() {
+        return version.get();
+    }
+
+    public Mono<TaskPageResponseDto> getCompletedPage(String cursor, Integer size) {
+        return Mono.defer(() -> {
+            TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+            int limit = pageSize(size);
+            return taskRepositoryTemplate.getCompletedPage(
+                            after == null ? null : after.at(), after == null ? null : after.id(), limit + 1)
+                    .collectList()
+                    .map(rows -> toPage(rows, limit, TaskResponseDto::getCompletedAt));
+        });
+    }
+
+    public Mono<TaskPageResponseDto> getInCompletedPage(String cursor, Integer size) {
+        return Mono.defer(() -> {
+            TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+            int limit = pageSize(size);
+            return taskRepositoryTemplate.getInCompletedPage(
+                            after == null ? null : after.at(), after == null ? null : after.id(), limit + 1)
+                    .collectList()
+                    .map(rows -> toPage(rows, limit, TaskResponseDto::getCreatedAt));
+        });
+    }
+
+    /** Every matching task in id order, read as fast as the client consumes it. */
+    public Flux<TaskResponseDto> exportTasks(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return taskRepositoryTemplate.streamTasks(completed, createdFrom, createdTo);
+    }
+
+    public Mono<TaskResponseDto> createTask(TaskRequestDto dto) {
+        return Mono.defer(() -> taskRepositoryTemplate.save(newTask(dto, now())))
+                .map(ReactiveTaskService::mapToResponseDto)
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(created -> changed());
+    }
+
+    /** Creates all tasks in one transaction; the returned DTOs are in request order. */
+    public Mono<List<TaskResponseDto>> createTasks(List<TaskRequestDto> dtos) {
+        return Mono.defer(() -> {
+                    LocalDateTime now = now();
+                    List<Task> tasks = new ArrayList<>(dtos.size());
+                    for (TaskRequestDto dto : dtos) {
+                        tasks.add(newTask(dto, now));
+                    }
+                    return taskRepositoryTemplate.saveAll(tasks).map(ReactiveTaskService::mapToResponseDto).collectList();
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(created -> changed());
+    }
+
+    /**
+     * Completes a single task. Completing a task that is already done is a
+     * no-op; only an unknown id is reported as not found.
+     */
+    public Mono<Void> markDone(Long id) {
+        return Mono.defer(() -> taskRepositoryTemplate.markCompleted(List.of(id), now()))
+                .flatMap(updated -> updated == 1
+                        ? Mono.just(true)
+                        : taskRepositoryTemplate.existsByTaskId(id)
+                                .flatMap(exists -> exists ? Mono.just(false) : Mono.error(notFound(id))))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(completed -> {
+                    if (Boolean.TRUE.equals(completed)) {
+                        changed();
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Completes many tasks and reports, per id, whether it was completed now,
+     * was already completed, or does not exist.
+     */
+    public Mono<TaskCompletionResultDto> markDone(List<Long> ids) {
+        return Mono.defer(() -> {
+                    Set<Long> requested = new LinkedHashSet<>(ids);
+                    LocalDateTime now = now();
+                    return taskRepositoryTemplate.markCompleted(requested, now).flatMap(updated -> {
+                        if (updated == requested.size()) {
+                            return Mono.just(new TaskCompletionResultDto(
+                                    new ArrayList<>(requested), new ArrayList<>(), new ArrayList<>()));
+                        }
+                        return taskRepositoryTemplate.findCompletionStates(requested)
+                                .collectMap(TaskCompletionState::id, state -> state)
+                                .map(states -> classify(requested, states, now));
+                    });
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(result -> {
+                    if (!result.getCompleted().isEmpty()) {
+                        changed();
+                    }
+                });
+    }
+
+    private static TaskCompletionResultDto classify(Set<Long> requested, Map<Long, TaskCompletionState> states,
+                                                    LocalDateTime now) {
+        List<Long> completed = new ArrayList<>();
+        List<Long> alreadyCompleted = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            TaskCompletionState state = states.get(id);
+            if (state == null) {
+                missing.add(id);
+            } else if (now.equals(state.completedAt())) {
+                completed.add(id);
+            } else {
+                alreadyCompleted.add(id);
+            }
+        }
+        return new TaskCompletionResultDto(completed, alreadyCompleted, missing);
+    }
+
+    private void changed() {
+        version.updateAndGet(TaskChangeVersion::next);
+    }
+
+    /** Truncated to the column precision so rows stamped by a call can be recognised. */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException("Task not found with id: " + id);
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    /** Trims the look-ahead row and derives the next cursor from the last row kept. */
+    private TaskPageResponseDto toPage(List<TaskResponseDto> rows, int limit,
+                                       Function<TaskResponseDto, LocalDateTime> sortKey) {
+        if (rows.size() <= limit) {
+            return new TaskPageResponseDto(rows, null);
+        }
+        List<TaskResponseDto> items = rows.subList(0, limit);
+        TaskResponseDto last = items.get(limit - 1);
+        return new TaskPageResponseDto(items, new TaskCursor(sortKey.apply(last), last.getId()).encode());
+    }
+
+    private Task newTask(TaskRequestDto dto, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setCompleted(false);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+
+    private static TaskResponseDto mapToResponseDto(Task task) {
+        return new TaskResponseDto(task.getId(), task.getTitle(), task.getDescription(),
+                task.getCreatedAt(), task.getCompletedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package com.todoapp.todo_backend.reactive;
+
+import com.todoapp.todo_backend.exception.GlobalExceptionHandler;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Non-blocking stack: the task API on WebFlux (Netty) with R2DBC.
+ *
+ * <p>Built from {@code src/reactive} by the {@code reactive} Maven profile,
+ * whose jar starts this class instead of the servlet application. It always
+ * runs with the {@code reactive} Spring profile, whose settings live in
+ * {@code application-reactive.yaml}. Only this package is scanned, so no JPA,
+ * cache, statistics or scheduling beans are created; the DTOs, the cursor
+ * format and {@link GlobalExceptionHandler} are shared with the servlet
+ * stack.</p>
+ */
+@SpringBootApplication
+@Import(GlobalExceptionHandler.class)
+public class ReactiveTodoApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveTodoApplication.class);
+        application.setAdditionalProfiles(PROFILE);
+        application.run(args);
+    }
+}
@@ -0,0 +1,25 @@
+-- Schema of the reactive stack on R2DBC H2, as Hibernate creates it for the servlet stack.
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000),
+    completed   BOOLEAN       NOT NULL,
+    createdAt   TIMESTAMP(6)  NOT NULL,
+    completedAt TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_created_at ON task (createdAt DESC);
+CREATE INDEX IF NOT EXISTS idx_task_completed_at ON task (completedAt DESC);
+CREATE INDEX IF NOT EXISTS idx_task_completed_status ON task (completed, createdAt DESC);
+
+CREATE TABLE IF NOT EXISTS task_archive (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000),
+    createdAt   TIMESTAMP(6)  NOT NULL,
+    completedAt TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_archive_completed_at ON task_archive (completedAt);
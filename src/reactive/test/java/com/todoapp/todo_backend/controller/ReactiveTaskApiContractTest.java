@@ -0,0 +1,27 @@
+package com.todoapp.todo_backend.controller;
+
+import com.todoapp.todo_backend.reactive.ReactiveTodoApplication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(classes = ReactiveTodoApplication.class, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-tasks",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always"
+})
+@ActiveProfiles(ReactiveTodoApplication.PROFILE)
+@AutoConfigureWebTestClient
+class ReactiveTaskApiContractTest extends AbstractTaskApiContractTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Override
+    protected WebTestClient client() {
+        return webTestClient;
+    }
+}
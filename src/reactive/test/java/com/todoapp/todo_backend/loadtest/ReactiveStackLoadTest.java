@@ -0,0 +1,21 @@
+package com.todoapp.todo_backend.loadtest;
+
+import com.todoapp.todo_backend.reactive.ReactiveTodoApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = ReactiveTodoApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///loadtest",
+                "spring.r2dbc.username=sa",
+                "spring.r2dbc.password=",
+                "spring.sql.init.mode=always"
+        })
+@ActiveProfiles({"loadtest", ReactiveTodoApplication.PROFILE})
+class ReactiveStackLoadTest extends AbstractThreadingModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "reactive";
+    }
+}
@@ -0,0 +1,246 @@
+package com.todoapp.todo_backend.controller;
+
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The {@code /api/tasks} contract, run end to end against each stack and
+ * storage engine over its own store: H2 for JPA and R2DBC, a temporary
+ * directory for the embedded one. The store is shared by all scenarios, so
+ * each one only asserts on the tasks it created itself.
+ */
+abstract class AbstractTaskApiContractTest {
+
+    private static final long UNKNOWN_ID = 999_999_999L;
+
+    protected abstract WebTestClient client();
+
+    @Test
+    void create_ThenGetTask_ShouldReturnTaskOrNotFound() {
+        // Given
+        TaskResponseDto created = create("Buy milk", "2 litres");
+
+        // When & Then
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getCreatedAt()).isNotNull();
+        assertThat(created.getCompletedAt()).isNull();
+        TaskResponseDto loaded = client().get().uri("/api/tasks/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskResponseDto.class)
+                .returnResult().getResponseBody();
+        assertThat(loaded).extracting(TaskResponseDto::getId, TaskResponseDto::getTitle, TaskResponseDto::getDescription)
+                .containsExactly(created.getId(), "Buy milk", "2 litres");
+        client().get().uri("/api/tasks/{id}", UNKNOWN_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("not_found")
+                .jsonPath("$.message").isEqualTo("Task not found with id: " + UNKNOWN_ID);
+    }
+
+    @Test
+    void createBatch_ShouldReturnCreatedTasksInOrderWithIncreasingIds() {
+        // Given - more tasks than one block of sequence ids
+        String[] titles = new String[120];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = "Batch task " + i;
+        }
+
+        // When
+        List<TaskResponseDto> created = createBatch(titles);
+
+        // Then
+        assertThat(created).extracting(TaskResponseDto::getTitle).containsExactly(titles);
+        assertThat(created).extracting(TaskResponseDto::getId).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void createBatch_WithInvalidElement_ShouldRejectWholeBatch() {
+        // When & Then
+        client().post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("tasks", List.of(Map.of("title", "Valid"), Map.of("title", ""))))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("validation_failed")
+                .jsonPath("$.messages['tasks[1].title']").isEqualTo("Title is required");
+    }
+
+    @Test
+    void done_ShouldMoveTaskBetweenListingsAndChangeTheirETags() {
+        // Given
+        TaskResponseDto task = create("Pay rent", null);
+        EntityExchangeResult<List<TaskResponseDto>> inCompleted = client().get().uri("/api/tasks/inCompleted")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponseDto.class)
+                .returnResult();
+        String etag = inCompleted.getResponseHeaders().getETag();
+        assertThat(inCompleted.getResponseBody()).first().extracting(TaskResponseDto::getId).isEqualTo(task.getId());
+        assertThat(etag).startsWith("\"inCompleted-");
+        client().get().uri("/api/tasks/inCompleted")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // When
+        client().post().uri("/api/tasks/{id}/done", task.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // Then
+        String changed = client().get().uri("/api/tasks/inCompleted")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+        assertThat(changed).isNotEqualTo(etag);
+        List<TaskResponseDto> completed = client().get().uri("/api/tasks/completed")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponseDto.class)
+                .returnResult().getResponseBody();
+        assertThat(completed).first().satisfies(first -> {
+            assertThat(first.getId()).isEqualTo(task.getId());
+            assertThat(first.getCompletedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void done_ShouldBeIdempotentAndReportUnknownIds() {
+        // Given
+        TaskResponseDto task = create("Water plants", null);
+        client().post().uri("/api/tasks/{id}/done", task.getId()).exchange().expectStatus().isNoContent();
+
+        // When & Then
+        client().post().uri("/api/tasks/{id}/done", task.getId()).exchange().expectStatus().isNoContent();
+        client().post().uri("/api/tasks/{id}/done", UNKNOWN_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("not_found");
+    }
+
+    @Test
+    void doneAll_ShouldReportCompletedAlreadyCompletedAndMissing() {
+        // Given
+        List<TaskResponseDto> tasks = createBatch("First", "Second");
+        Long first = tasks.get(0).getId();
+        Long second = tasks.get(1).getId();
+        assertThat(doneAll(List.of(first, UNKNOWN_ID)))
+                .isEqualTo(new TaskCompletionResultDto(List.of(first), List.of(), List.of(UNKNOWN_ID)));
+
+        // When
+        TaskCompletionResultDto result = doneAll(List.of(first, second));
+
+        // Then
+        assertThat(result).isEqualTo(new TaskCompletionResultDto(List.of(second), List.of(first), List.of()));
+    }
+
+    @Test
+    void inCompletedHistory_ShouldPageWithCursorAndRejectInvalidOnes() {
+        // Given - one batch shares its creation time, so the pages are ordered by id
+        List<TaskResponseDto> tasks = createBatch("Page 1", "Page 2", "Page 3");
+
+        // When
+        TaskPageResponseDto firstPage = page("/api/tasks/inCompleted/history?size=2");
+        TaskPageResponseDto secondPage = page("/api/tasks/inCompleted/history?size=2&cursor=" + firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(TaskResponseDto::getId)
+                .containsExactly(tasks.get(2).getId(), tasks.get(1).getId());
+        assertThat(secondPage.getItems()).first().extracting(TaskResponseDto::getId).isEqualTo(tasks.get(0).getId());
+        client().get().uri("/api/tasks/completed/history?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("invalid_cursor");
+    }
+
+    @Test
+    void export_ShouldStreamMatchingTasksAsNdjsonInIdOrder() {
+        // Given
+        List<TaskResponseDto> tasks = createBatch("Export 1", "Export 2", "Export 3");
+        doneAll(List.of(tasks.get(1).getId()));
+
+        // When
+        List<TaskResponseDto> exported = client().get()
+                .uri(uri -> uri.path("/api/tasks/export")
+                        .queryParam("completed", false)
+                        .queryParam("createdFrom", tasks.get(0).getCreatedAt().toString())
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponseDto.class)
+                .getResponseBody().collectList().block();
+
+        // Then
+        assertThat(exported).extracting(TaskResponseDto::getId)
+                .containsSubsequence(tasks.get(0).getId(), tasks.get(2).getId())
+                .doesNotContain(tasks.get(1).getId())
+                .isSorted();
+    }
+
+    private TaskResponseDto create(String title, String description) {
+        Map<String, String> body = description == null
+                ? Map.of("title", title)
+                : Map.of("title", title, "description", description);
+        EntityExchangeResult<TaskResponseDto> result = client().post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponseDto.class)
+                .returnResult();
+        TaskResponseDto created = result.getResponseBody();
+        assertThat(result.getResponseHeaders().getLocation()).hasToString("/api/tasks/" + created.getId());
+        return created;
+    }
+
+    private List<TaskResponseDto> createBatch(String... titles) {
+        List<Map<String, String>> tasks = new ArrayList<>();
+        Arrays.stream(titles).forEach(title -> tasks.add(Map.of("title", title)));
+        return client().post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("tasks", tasks))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBodyList(TaskResponseDto.class)
+                .returnResult().getResponseBody();
+    }
+
+    private TaskCompletionResultDto doneAll(List<Long> ids) {
+        return client().post().uri("/api/tasks/done")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", ids))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskCompletionResultDto.class)
+                .returnResult().getResponseBody();
+    }
+
+    private TaskPageResponseDto page(String uri) {
+        return client().get().uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TaskPageResponseDto.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,230 @@
+package com.todoapp.todo_backend.controller;
+
+import com.todoapp.todo_backend.config.AdmissionControlFilter;
+import com.todoapp.todo_backend.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger poolWaiters = new AtomicInteger();
+    private AdmissionControlProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionControlProperties();
+        properties.setMaxConcurrentReads(2);
+        properties.setMaxConcurrentWrites(1);
+        properties.setClientRate(1);
+        properties.setClientBurst(3);
+        properties.setMaxPoolWaiters(5);
+    }
+
+    @Test
+    void whenPoolWaitQueuePassesThreshold_ShouldFailFastWith503() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter();
+        poolWaiters.set(6);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        MockHttpServletResponse response = send(filter, request("GET", "10.0.0.1"), chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"error\":\"overloaded\"");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(rejected("pool_saturated", "read")).isEqualTo(1.0);
+    }
+
+    @Test
+    void whenClientExhaustsItsBucket_ShouldRateLimitOnlyThatClient() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter();
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, request("GET", "10.0.0.1"), new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+
+        // When
+        MockHttpServletResponse limited = send(filter, request("GET", "10.0.0.1"), new MockFilterChain());
+        MockHttpServletResponse other = send(filter, request("GET", "10.0.0.2"), new MockFilterChain());
+
+        // Then
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(other.getStatus()).isEqualTo(200);
+        assertThat(rejected("rate_limited", "read")).isEqualTo(1.0);
+    }
+
+    @Test
+    void whenTrackedClientsAreAtCapacity_NewClientsShouldShareOneBucket() throws Exception {
+        // Given
+        properties.setMaxTrackedClients(1);
+        AdmissionControlFilter filter = filter();
+        send(filter, request("GET", "10.0.0.1"), new MockFilterChain());
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, request("GET", "10.0.0.2"), new MockFilterChain()).getStatus()).isEqualTo(200);
+        }
+
+        // When
+        MockHttpServletResponse overflowing = send(filter, request("GET", "10.0.0.3"), new MockFilterChain());
+        MockHttpServletResponse tracked = send(filter, request("GET", "10.0.0.1"), new MockFilterChain());
+
+        // Then
+        assertThat(overflowing.getStatus()).isEqualTo(429);
+        assertThat(tracked.getStatus()).isEqualTo(200);
+        assertThat(trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void sweepIdleClients_ShouldForgetOnlyClientsWhoseBucketRefilled() throws Exception {
+        // Given - one client has just emptied its bucket, another has not been seen for a while
+        properties.setClientRate(20);
+        AdmissionControlFilter filter = filter();
+        send(filter, request("GET", "10.0.0.1"), new MockFilterChain());
+        Thread.sleep(100);
+        for (int i = 0; i < 3; i++) {
+            send(filter, request("GET", "10.0.0.2"), new MockFilterChain());
+        }
+
+        // When
+        filter.sweepIdleClients();
+
+        // Then
+        assertThat(trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void whenWritesAreAtCapacity_ShouldRejectFurtherWritesButAdmitReads() throws Exception {
+        // Given - the chain of the first write issues more requests while it is still in flight
+        AdmissionControlFilter filter = filter();
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain holdingWrite = (req, res) -> {
+            nested[0] = send(filter, request("POST", "10.0.0.2"), new MockFilterChain());
+            nested[1] = send(filter, request("GET", "10.0.0.3"), new MockFilterChain());
+        };
+
+        // When
+        MockHttpServletResponse first = send(filter, request("POST", "10.0.0.1"), holdingWrite);
+        MockHttpServletResponse afterRelease = send(filter, request("POST", "10.0.0.2"), new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[1].getStatus()).isEqualTo(200);
+        assertThat(afterRelease.getStatus()).isEqualTo(200);
+        assertThat(rejected("concurrency", "write")).isEqualTo(1.0);
+        assertThat(registry.get("tasks.admission.in_flight").tag("kind", "write").gauge().value()).isZero();
+    }
+
+    @Test
+    void forwardedClientAddress_ShouldOnlyBeUsedWhenTheProxyIsTrusted() throws Exception {
+        // Given - one client exhausts its bucket through the proxy
+        properties.setTrustedProxies("10\\.1\\.0\\.\\d+");
+        AdmissionControlFilter filter = filter();
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, forwarded("10.1.0.5", "203.0.113.7"), new MockFilterChain()).getStatus())
+                    .isEqualTo(200);
+        }
+
+        // When
+        MockHttpServletResponse sameClient = send(filter, forwarded("10.1.0.6", "203.0.113.7"), new MockFilterChain());
+        MockHttpServletResponse otherClient = send(filter, forwarded("10.1.0.5", "203.0.113.8"), new MockFilterChain());
+        MockHttpServletRequest spoofed = request("GET", "198.51.100.1");
+        spoofed.addHeader("X-Forwarded-For", "203.0.113.8");
+        for (int i = 0; i < 3; i++) {
+            send(filter, spoofed, new MockFilterChain());
+        }
+        MockHttpServletResponse spoofedVictim = send(filter, forwarded("10.1.0.5", "203.0.113.8"), new MockFilterChain());
+        MockHttpServletRequest chained = request("GET", "10.1.0.5");
+        chained.addHeader("X-Forwarded-For", "203.0.113.7, 203.0.113.9, 10.1.0.4");
+        MockHttpServletResponse viaTwoProxies = send(filter, chained, new MockFilterChain());
+
+        // Then
+        assertThat(sameClient.getStatus()).isEqualTo(429);
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(spoofedVictim.getStatus()).isEqualTo(200);
+        assertThat(viaTwoProxies.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncRequest_ShouldHoldItsPermitUntilTheAsyncWorkCompletes() throws Exception {
+        // Given - the chain starts async processing and returns, as an export does
+        AdmissionControlFilter filter = filter();
+        MockHttpServletRequest export = request("POST", "10.0.0.1");
+        export.setAsyncSupported(true);
+        FilterChain startsAsync = (req, res) -> req.startAsync();
+
+        // When
+        MockHttpServletResponse first = send(filter, export, startsAsync);
+        MockHttpServletResponse whileStreaming = send(filter, request("POST", "10.0.0.2"), new MockFilterChain());
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        MockHttpServletResponse afterCompletion = send(filter, request("POST", "10.0.0.2"), new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(whileStreaming.getStatus()).isEqualTo(503);
+        assertThat(afterCompletion.getStatus()).isEqualTo(200);
+        assertThat(registry.get("tasks.admission.in_flight").tag("kind", "write").gauge().value()).isZero();
+    }
+
+    @Test
+    void eventStream_ShouldBypassAdmissionControl() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter();
+        poolWaiters.set(100);
+        MockHttpServletRequest request = request("GET", "10.0.0.1");
+        request.setRequestURI("/api/tasks/stream");
+
+        // When
+        MockHttpServletResponse response = send(filter, request, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private AdmissionControlFilter filter() {
+        return new AdmissionControlFilter(properties, poolWaiters::get, registry);
+    }
+
+    private MockHttpServletResponse send(AdmissionControlFilter filter, MockHttpServletRequest request,
+                                         FilterChain chain) throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks");
+        request.setRemoteAddr(client);
+        return request;
+    }
+
+    private MockHttpServletRequest forwarded(String proxy, String client) {
+        MockHttpServletRequest request = request("GET", proxy);
+        request.addHeader("Fly-Client-IP", client);
+        return request;
+    }
+
+    private double trackedClients() {
+        return registry.get("tasks.admission.tracked_clients").gauge().value();
+    }
+
+    private double rejected(String reason, String kind) {
+        return registry.get("tasks.admission.rejected").tag("reason", reason).tag("kind", kind).counter().count();
+    }
+}
@@ -0,0 +1,35 @@
+package com.todoapp.todo_backend.controller;
+
+import com.todoapp.todo_backend.config.EmbeddedStorageConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.client.MockMvcWebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(EmbeddedStorageConfig.PROFILE)
+class EmbeddedTaskApiContractTest extends AbstractTaskApiContractTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void storageDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("embedded-tasks").toString();
+        registry.add("todo.embedded.directory", () -> directory);
+    }
+
+    @Override
+    protected WebTestClient client() {
+        return MockMvcWebTestClient.bindTo(mockMvc).build();
+    }
+}
@@ -1,30 +1,61 @@
 package com.todoapp.todo_backend.controller;
 
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.business.TaskExportService;
+import com.todoapp.todo_backend.business.TaskImportService;
 import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.business.TaskStatistics;
+import com.todoapp.todo_backend.business.TaskWriteBatcher;
+import com.todoapp.todo_backend.config.WireFormatConfig;
+import com.todoapp.todo_backend.exception.ResourceNotFoundException;
+import com.todoapp.todo_backend.exception.TaskWriteRejectedException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskBatchRequestDto;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskIdsRequestDto;
 import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportRejectionDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
 import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskStatsDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.todoapp.todo_backend.presentation.TaskController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(TaskController.class)
-@Import(TaskController.class)
+@WebMvcTest(value = TaskController.class, properties = "todo.write-behind.write-timeout=PT0.2S")
+@Import({TaskController.class, WireFormatConfig.class, SimpleMeterRegistry.class})
 class TaskControllerTest {
 
     @Autowired
@@ -33,9 +64,35 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskWriteBatcher taskWriteBatcher;
+
+    @MockitoBean
+    private TaskStatistics taskStatistics;
+
+    private static final Instant CHANGED_AT = Instant.parse("2025-01-01T10:00:00Z");
+    private static final AtomicLong VERSIONS = new AtomicLong(42);
+
+    // A version of its own per test, so listing bodies cached by another test are never served.
+    private final TaskChangeVersion version = new TaskChangeVersion(VERSIONS.getAndAdd(2), CHANGED_AT);
+
+    @BeforeEach
+    void setUp() {
+        when(taskService.getChangeVersion()).thenReturn(version);
+    }
+
     @Test
     void getLatestCompleted_ShouldReturnLatestCompletedTasks() throws Exception {
         // Given
@@ -76,6 +133,52 @@ class TaskControllerTest {
         verify(taskService).getLatestInCompleted();
     }
 
+    @Test
+    void search_ShouldPassQueryFilterAndLimitThrough() throws Exception {
+        // Given
+        when(taskService.searchTasks("pay inv", false, 5))
+                .thenReturn(List.of(createTaskResponseDto(4L, "Pay invoice", "Electricity")));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/search").param("q", "pay inv").param("completed", "false").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(4))
+                .andExpect(jsonPath("$[0].title").value("Pay invoice"));
+    }
+
+    @Test
+    void stats_ShouldReturnInMemorySnapshot() throws Exception {
+        // Given
+        when(taskStatistics.snapshot()).thenReturn(new TaskStatsDto(10, 4, 6, 90.5, List.of(), List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.completed").value(4))
+                .andExpect(jsonPath("$.incomplete").value(6))
+                .andExpect(jsonPath("$.meanTimeToCompleteSeconds").value(90.5));
+    }
+
+    @Test
+    void getTask_ShouldReturnTaskOrNotFound() throws Exception {
+        // Given
+        when(taskService.getTask(3L)).thenReturn(createTaskResponseDto(3L, "Task 3", "Description 3"));
+        when(taskService.getTask(404L)).thenThrow(new ResourceNotFoundException("Task not found with id: 404"));
+        double notFoundBefore = meterRegistry.get("tasks.not_found").counter().count();
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/{id}", 3L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.title").value("Task 3"));
+        mockMvc.perform(get("/api/tasks/{id}", 404L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("not_found"));
+        assertThat(meterRegistry.get("tasks.not_found").counter().count()).isEqualTo(notFoundBefore + 1);
+    }
+
     @Test
     void create_WithValidRequest_ShouldCreateTask() throws Exception {
         // Given
@@ -99,6 +202,53 @@ class TaskControllerTest {
         verify(taskService).createTask(any(TaskRequestDto.class));
     }
 
+    @Test
+    void createBatch_WithValidRequests_ShouldReturnCreatedTasksInOrder() throws Exception {
+        // Given
+        TaskRequestDto first = new TaskRequestDto();
+        first.setTitle("First");
+        TaskRequestDto second = new TaskRequestDto();
+        second.setTitle("Second");
+        TaskBatchRequestDto batch = new TaskBatchRequestDto();
+        batch.setTasks(List.of(first, second));
+
+        when(taskService.createTasks(anyList())).thenReturn(List.of(
+                createTaskResponseDto(1L, "First", null),
+                createTaskResponseDto(2L, "Second", null)));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("First"))
+                .andExpect(jsonPath("$[1].title").value("Second"));
+
+        verify(taskService).createTasks(anyList());
+    }
+
+    @Test
+    void createBatch_WithInvalidElement_ShouldRejectWholeBatch() throws Exception {
+        // Given
+        TaskRequestDto valid = new TaskRequestDto();
+        valid.setTitle("Valid");
+        TaskRequestDto blank = new TaskRequestDto();
+        blank.setTitle(" ");
+        TaskBatchRequestDto batch = new TaskBatchRequestDto();
+        batch.setTasks(List.of(valid, blank));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("validation_failed"))
+                .andExpect(jsonPath("$.messages['tasks[1].title']").value("Title is required"));
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void done_WithValidId_ShouldMarkTaskAsDone() throws Exception {
         // Given
@@ -111,6 +261,63 @@ class TaskControllerTest {
         verify(taskService).markDone(taskId);
     }
 
+    @Test
+    void create_InWriteBehindMode_ShouldReturnTaskOnceBatchCommits() throws Exception {
+        // Given
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("Queued");
+        when(taskWriteBatcher.isEnabled()).thenReturn(true);
+        when(taskWriteBatcher.create(any(TaskRequestDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(createTaskResponseDto(7L, "Queued", null)));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/tasks/7"))
+                .andExpect(jsonPath("$.id").value(7));
+
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    void done_InWriteBehindMode_ShouldPropagateBatchFailures() throws Exception {
+        // Given
+        when(taskWriteBatcher.isEnabled()).thenReturn(true);
+        when(taskWriteBatcher.complete(404L))
+                .thenReturn(CompletableFuture.failedFuture(new ResourceNotFoundException("Task not found with id: 404")));
+        when(taskWriteBatcher.complete(503L))
+                .thenReturn(CompletableFuture.failedFuture(new TaskWriteRejectedException("Write queue is full")));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/{id}/done", 404L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("not_found"));
+        mockMvc.perform(post("/api/tasks/{id}/done", 503L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(taskService, never()).markDone(anyLong());
+    }
+
+    @Test
+    void create_InWriteBehindMode_WhenCommitTakesTooLong_ShouldReturnServiceUnavailable() throws Exception {
+        // Given - a write the writer never gets to
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("Stuck");
+        when(taskWriteBatcher.isEnabled()).thenReturn(true);
+        when(taskWriteBatcher.create(any(TaskRequestDto.class))).thenReturn(new CompletableFuture<>());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("overloaded"));
+    }
+
     @Test
     void done_WithNonExistentId_ShouldReturnNotFound() throws Exception {
         // Given
@@ -126,6 +333,69 @@ class TaskControllerTest {
         verify(taskService).markDone(nonExistentId);
     }
 
+    @Test
+    void doneAll_ShouldReturnCompletionReport() throws Exception {
+        // Given
+        TaskIdsRequestDto request = new TaskIdsRequestDto();
+        request.setIds(List.of(1L, 2L, 3L));
+
+        when(taskService.markDone(anyList()))
+                .thenReturn(new TaskCompletionResultDto(List.of(1L), List.of(2L), List.of(3L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/done")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed[0]").value(1))
+                .andExpect(jsonPath("$.alreadyCompleted[0]").value(2))
+                .andExpect(jsonPath("$.missing[0]").value(3));
+
+        verify(taskService).markDone(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void export_ShouldStreamNdjsonWithFilters() throws Exception {
+        // Given
+        when(taskExportService.exportTasks(eq(true), any(), isNull(), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When & Then
+        MvcResult started = mockMvc.perform(get("/api/tasks/export")
+                        .param("completed", "true")
+                        .param("createdFrom", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+
+        verify(taskExportService).exportTasks(eq(true), eq(LocalDateTime.of(2024, 1, 1, 0, 0)), isNull(), any(OutputStream.class));
+    }
+
+    @Test
+    void importTasks_WithCsvBody_ShouldReturnSummary() throws Exception {
+        // Given
+        when(taskImportService.importTasks(any(InputStream.class), eq(TaskImportService.Format.CSV)))
+                .thenReturn(new TaskImportSummaryDto(1, 1,
+                        List.of(new TaskImportRejectionDto(3, "title: Title is required")), false, 5));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType("text/csv")
+                        .content("title,description\nWrite docs,\n,missing title\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(3));
+
+        verify(taskImportService).importTasks(any(InputStream.class), eq(TaskImportService.Format.CSV));
+    }
+
     @Test
     void getLatestCompleted_WhenNoTasks_ShouldReturnEmptyList() throws Exception {
         // Given
@@ -139,6 +409,94 @@ class TaskControllerTest {
         verify(taskService).getLatestTasks();
     }
 
+    @Test
+    void getLatestCompleted_ShouldSendValidators() throws Exception {
+        // Given
+        when(taskService.getLatestTasks()).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/completed"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.etag("completed")))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, CHANGED_AT.toEpochMilli()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    void getLatestInCompleted_WithMatchingETag_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/tasks/inCompleted").header(HttpHeaders.IF_NONE_MATCH, version.etag("inCompleted")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.etag("inCompleted")))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getLatestInCompleted();
+    }
+
+    @Test
+    void getLatestCompleted_WithStaleETag_ShouldReturnFullBody() throws Exception {
+        // Given
+        when(taskService.getLatestTasks()).thenReturn(List.of(createTaskResponseDto(1L, "Task 1", "Description 1")));
+
+        // When & Then - the ETag of the other listing must not match either
+        String stale = new TaskChangeVersion(version.value() - 1, CHANGED_AT).etag("completed");
+        mockMvc.perform(get("/api/tasks/completed")
+                        .header(HttpHeaders.IF_NONE_MATCH, stale + ", " + version.etag("inCompleted")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(taskService).getLatestTasks();
+    }
+
+    @Test
+    void getLatestCompleted_WithCurrentIfModifiedSince_ShouldReturnNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/tasks/completed")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 Jan 2025 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(taskService, never()).getLatestTasks();
+    }
+
+    @Test
+    void getLatestCompleted_ShouldServeEncodedBytesUntilVersionChanges() throws Exception {
+        // Given
+        List<TaskResponseDto> tasks = List.of(
+                createTaskResponseDto(1L, "Task 1", "Description 1"),
+                createTaskResponseDto(2L, "Task 2", "Description 2"),
+                createTaskResponseDto(3L, "Task 3", "Description 3"));
+        when(taskService.getLatestTasks()).thenReturn(tasks);
+
+        // When
+        byte[] plain = mockMvc.perform(get("/api/tasks/completed"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] gzipped = mockMvc.perform(get("/api/tasks/completed").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(containsString(HttpHeaders.ACCEPT_ENCODING))))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then - one load for both codings, and the same bytes as before
+        verify(taskService, times(1)).getLatestTasks();
+        assertThat(objectMapper.readValue(plain, TaskResponseDto[].class)).containsExactlyElementsOf(tasks);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+
+        // When - a write moves the version on
+        when(taskService.getChangeVersion()).thenReturn(version.next());
+        when(taskService.getLatestTasks()).thenReturn(tasks.subList(0, 1));
+        mockMvc.perform(get("/api/tasks/completed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        // Then
+        verify(taskService, times(2)).getLatestTasks();
+    }
+
     @Test
     void create_WhenServiceReturnsNull_ShouldReturnServerError() throws Exception {
         // Given
@@ -166,4 +524,4 @@ class TaskControllerTest {
         dto.setCreatedAt(LocalDateTime.now());
         return dto;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.todoapp.todo_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.config.WireFormatConfig;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.presentation.TaskListingResponseCache;
+import com.todoapp.todo_backend.presentation.TaskListingResponseCache.Body;
+import com.todoapp.todo_backend.presentation.TaskListingResponseCache.Variant;
+import com.todoapp.todo_backend.presentation.TaskProtobufHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListingResponseCacheTest {
+
+    private static final TaskChangeVersion V1 = new TaskChangeVersion(1L, Instant.parse("2025-01-01T10:00:00Z"));
+    private static final TaskChangeVersion V2 = new TaskChangeVersion(2L, Instant.parse("2025-01-01T10:00:01Z"));
+
+    private final TaskListingResponseCache cache = new TaskListingResponseCache(
+            Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+            WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new CBORFactory()),
+            WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new SmileFactory()));
+
+    @Test
+    void negotiate_ShouldFollowAcceptLikeSpringMvc() {
+        // When & Then - JSON unless a binary format is asked for more specifically or with higher quality
+        assertThat(cache.negotiate(null, null)).isEqualTo(new Variant(MediaType.APPLICATION_JSON, false));
+        assertThat(cache.negotiate("text/html,application/xhtml+xml,*/*;q=0.8", null).contentType())
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cache.negotiate("application/cbor, */*", null).contentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cache.negotiate("application/x-protobuf, application/json;q=0.5", null).contentType())
+                .isEqualTo(TaskProtobufHttpMessageConverter.X_PROTOBUF);
+        assertThat(cache.negotiate("*/*, application/json;q=0", null).contentType())
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cache.negotiate("application/xml", null)).isNull();
+        assertThat(cache.negotiate("not a media type", null)).isNull();
+    }
+
+    @Test
+    void negotiate_ShouldOnlyGzipWhenTheClientAcceptsIt() {
+        // When & Then
+        assertThat(cache.negotiate(null, "gzip, deflate, br").gzip()).isTrue();
+        assertThat(cache.negotiate(null, "br;q=1.0, *;q=0.1").gzip()).isTrue();
+        assertThat(cache.negotiate(null, "gzip;q=0, *").gzip()).isFalse();
+        assertThat(cache.negotiate(null, "identity").gzip()).isFalse();
+    }
+
+    @Test
+    void get_ShouldEncodeOncePerVersionAndVariant() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        List<TaskResponseDto> tasks = List.of(
+                new TaskResponseDto(1L, "Task 1", "Description 1", LocalDateTime.of(2025, 1, 1, 9, 0), null),
+                new TaskResponseDto(2L, "Task 2", "Description 2", LocalDateTime.of(2025, 1, 1, 9, 1), null),
+                new TaskResponseDto(3L, "Task 3", "Description 3", LocalDateTime.of(2025, 1, 1, 9, 2), null));
+        Supplier<List<TaskResponseDto>> listing = () -> {
+            loads.incrementAndGet();
+            return tasks;
+        };
+        Variant json = new Variant(MediaType.APPLICATION_JSON, false);
+        Variant jsonGzip = new Variant(MediaType.APPLICATION_JSON, true);
+
+        // When
+        Body first = cache.get("completed", V1, json, listing);
+        Body again = cache.get("completed", V1, json, listing);
+        Body gzipped = cache.get("completed", V1, jsonGzip, listing);
+        Body otherListing = cache.get("inCompleted", V1, json, listing);
+
+        // Then
+        assertThat(again).isSameAs(first);
+        assertThat(gzipped.contentEncoding()).isEqualTo("gzip");
+        assertThat(gzipped.bytes().length).isLessThan(first.bytes().length);
+        assertThat(otherListing).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+
+        // When - the version moves on, and a request still holding the old one arrives late
+        Body next = cache.get("completed", V2, json, listing);
+        Body late = cache.get("completed", V1, json, listing);
+        Body current = cache.get("completed", V2, json, listing);
+
+        // Then - the newer version stays cached
+        assertThat(next).isNotSameAs(first);
+        assertThat(late).isNotSameAs(next);
+        assertThat(current).isSameAs(next);
+        assertThat(loads).hasValue(4);
+    }
+}
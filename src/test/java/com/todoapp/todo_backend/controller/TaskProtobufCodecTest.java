@@ -0,0 +1,141 @@
+package com.todoapp.todo_backend.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.todoapp.todo_backend.config.WireFormatConfig;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.presentation.TaskProtobufCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskProtobufCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000);
+
+    /** {@code Task{id: 7, title: "Buy milk", description: "2 litres", created_at: 1704164645006}} */
+    private static final String BUY_MILK = "0807" + "1208427579206d696c6b" + "1a0832206c6974726573" + "208eb183c1cc31";
+
+    @Test
+    void writeTask_ShouldKeepItsWireEncoding() throws IOException {
+        // Given
+        TaskResponseDto task = new TaskResponseDto(7L, "Buy milk", "2 litres", CREATED_AT, null);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskProtobufCodec.writeTask(task, out);
+
+        // Then - changing these bytes breaks every deployed client
+        assertThat(HexFormat.of().formatHex(out.toByteArray())).isEqualTo(BUY_MILK);
+    }
+
+    @Test
+    void readTask_ShouldSkipFieldsAddedByNewerSchemas() {
+        // Given - fields 9 (varint), 10 (string), 11 (fixed64) and 12 (fixed32) are unknown here
+        byte[] newer = HexFormat.of().parseHex(BUY_MILK + "4801" + "5203616263" + "590102030405060708" + "6501020304");
+
+        // When
+        TaskResponseDto task = TaskProtobufCodec.readTask(newer);
+
+        // Then
+        assertThat(task).isEqualTo(new TaskResponseDto(7L, "Buy milk", "2 litres", CREATED_AT, null));
+    }
+
+    @Test
+    void readTask_WithTruncatedMessage_ShouldFail() {
+        // Given
+        byte[] truncated = HexFormat.of().parseHex(BUY_MILK.substring(0, BUY_MILK.length() - 4));
+
+        // When & Then
+        assertThatThrownBy(() -> TaskProtobufCodec.readTask(truncated))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    @Test
+    void writeTasks_ShouldRoundTripNullFieldsAndUnicode() throws IOException {
+        // Given
+        List<TaskResponseDto> tasks = List.of(
+                new TaskResponseDto(1L, "Café ☕", null, CREATED_AT, CREATED_AT.plusHours(2)),
+                new TaskResponseDto(2L, "", "", CREATED_AT, null));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskProtobufCodec.writeTasks(tasks, out);
+
+        // Then
+        assertThat(TaskProtobufCodec.readTasks(out.toByteArray())).isEqualTo(tasks);
+    }
+
+    @Test
+    void publishedSchema_ShouldDeclareTheFieldsTheCodecWrites() throws IOException {
+        // Given
+        String proto = new ClassPathResource("static/proto/task.proto").getContentAsString(StandardCharsets.UTF_8);
+
+        // When
+        List<String> fields = new ArrayList<>();
+        String message = null;
+        Matcher line = Pattern.compile("message (\\w+)|(?:optional |repeated )?(\\w+) (\\w+) = (\\d+);").matcher(proto);
+        while (line.find()) {
+            if (line.group(1) != null) {
+                message = line.group(1);
+            } else {
+                fields.add(message + "." + line.group(3) + ":" + line.group(2) + "=" + line.group(4));
+            }
+        }
+
+        // Then
+        assertThat(fields).containsExactly(
+                "Task.id:int64=1",
+                "Task.title:string=2",
+                "Task.description:string=3",
+                "Task.created_at:int64=4",
+                "Task.completed_at:int64=5",
+                "TaskList.tasks:Task=1");
+    }
+
+    @Test
+    void binaryFormats_ShouldBeSmallerThanJson() throws IOException {
+        // Given
+        List<TaskResponseDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new TaskResponseDto((long) i, "Task " + i, "Description for task " + i,
+                    CREATED_AT.plusMinutes(i), i % 2 == 0 ? CREATED_AT.plusDays(1) : null));
+        }
+        TypeReference<List<TaskResponseDto>> listType = new TypeReference<>() {
+        };
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // When
+        int jsonSize = json.writerFor(listType).writeValueAsBytes(tasks).length;
+        int cborSize = WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new CBORFactory())
+                .writerFor(listType).writeValueAsBytes(tasks).length;
+        int smileSize = WireFormatConfig.binaryMapper(new Jackson2ObjectMapperBuilder(), new SmileFactory())
+                .writerFor(listType).writeValueAsBytes(tasks).length;
+        ByteArrayOutputStream protobuf = new ByteArrayOutputStream();
+        TaskProtobufCodec.writeTasks(tasks, protobuf);
+
+        // Then
+        assertThat(cborSize).isLessThan(jsonSize);
+        assertThat(smileSize).isLessThan(cborSize);
+        assertThat(protobuf.size()).isLessThan(smileSize);
+    }
+}
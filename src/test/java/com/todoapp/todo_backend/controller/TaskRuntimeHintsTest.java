@@ -0,0 +1,39 @@
+package com.todoapp.todo_backend.controller;
+
+import com.todoapp.todo_backend.config.TaskRuntimeHints;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_ShouldCoverBindingEntityProjectionsAndResources() throws Exception {
+        // When
+        new TaskRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TaskResponseDto.class.getMethod("getTitle")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TaskImportSummaryDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onConstructor(TaskCreationTime.class.getDeclaredConstructor(Long.class, LocalDateTime.class)))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/resources/webjars/swagger-ui/index.html"))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,154 @@
+package com.todoapp.todo_backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.business.TaskExportService;
+import com.todoapp.todo_backend.business.TaskImportService;
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.business.TaskStatistics;
+import com.todoapp.todo_backend.business.TaskWriteBatcher;
+import com.todoapp.todo_backend.config.WireFormatConfig;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.presentation.TaskController;
+import com.todoapp.todo_backend.presentation.TaskProtobufCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TaskController.class)
+@Import({TaskController.class, WireFormatConfig.class, SimpleMeterRegistry.class})
+class TaskWireFormatTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000);
+    private static final long CREATED_AT_MILLIS = 1_704_164_645_006L;
+    private static final TaskChangeVersion VERSION = new TaskChangeVersion(42L, Instant.parse("2025-01-01T10:00:00Z"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskService taskService;
+
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskWriteBatcher taskWriteBatcher;
+
+    @MockitoBean
+    private TaskStatistics taskStatistics;
+
+    @BeforeEach
+    void setUp() {
+        when(taskService.getChangeVersion()).thenReturn(VERSION);
+        when(taskService.getTask(7L)).thenReturn(new TaskResponseDto(7L, "Buy milk", "2 litres", CREATED_AT, null));
+        when(taskService.getLatestInCompleted()).thenReturn(List.of(
+                new TaskResponseDto(7L, "Buy milk", "2 litres", CREATED_AT, null),
+                new TaskResponseDto(8L, "Pay rent", null, CREATED_AT, CREATED_AT.plusDays(1))));
+    }
+
+    @Test
+    void getTask_WithoutAccept_ShouldStillAnswerJsonWithIsoDates() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/tasks/{id}", 7L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.createdAt").value("2024-01-02T03:04:05.006"));
+        mockMvc.perform(get("/api/tasks/{id}", 7L).accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getTask_WithUnsupportedAccept_ShouldAnswerNotAcceptable() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/tasks/{id}", 7L).accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+        mockMvc.perform(get("/api/tasks/inCompleted").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void getTask_WithNonNumericId_ShouldAnswerBadRequest() throws Exception {
+        // When & Then - a request Spring cannot bind is the client's fault, not an internal error
+        mockMvc.perform(get("/api/tasks/{id}", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTask_AsCborOrSmile_ShouldWriteEpochMillis() throws Exception {
+        // When
+        byte[] cbor = mockMvc.perform(get("/api/tasks/{id}", 7L).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/api/tasks/{id}", 7L).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        for (JsonNode task : List.of(new ObjectMapper(new CBORFactory()).readTree(cbor),
+                new ObjectMapper(new SmileFactory()).readTree(smile))) {
+            assertThat(task.get("id").asLong()).isEqualTo(7L);
+            assertThat(task.get("title").asText()).isEqualTo("Buy milk");
+            assertThat(task.get("createdAt").isIntegralNumber()).isTrue();
+            assertThat(task.get("createdAt").asLong()).isEqualTo(CREATED_AT_MILLIS);
+            assertThat(task.get("completedAt").isNull()).isTrue();
+        }
+    }
+
+    @Test
+    void getLatestInCompleted_AsProtobuf_ShouldWriteTaskList() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/tasks/inCompleted").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(containsString(HttpHeaders.ACCEPT))))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        List<TaskResponseDto> tasks = TaskProtobufCodec.readTasks(body);
+        assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(7L, 8L);
+        assertThat(tasks.get(0).getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(tasks.get(0).getCompletedAt()).isNull();
+        assertThat(tasks.get(1).getDescription()).isNull();
+        assertThat(tasks.get(1).getCompletedAt()).isEqualTo(CREATED_AT.plusDays(1));
+    }
+
+    @Test
+    void getTask_AsProtobuf_ShouldWriteSingleTask() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/tasks/{id}", 7L).accept("application/protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/protobuf"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertThat(TaskProtobufCodec.readTask(body))
+                .isEqualTo(new TaskResponseDto(7L, "Buy milk", "2 litres", CREATED_AT, null));
+    }
+}
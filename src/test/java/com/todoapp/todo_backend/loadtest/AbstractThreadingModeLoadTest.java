@@ -0,0 +1,43 @@
+package com.todoapp.todo_backend.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the standard {@link TaskTraffic} mix against the app in one threading
+ * mode, so the platform and virtual thread reports can be compared.
+ *
+ * <p>Tagged {@code load}, so it only runs with {@code mvn -Ploadtest test}. Rate,
+ * duration and in-flight cap come from the {@code loadtest.*} system properties
+ * read by {@link LoadDriver.Settings}. Results are printed and written to
+ * {@code target/loadtest/threading-<mode>.txt}.</p>
+ */
+@Tag("load")
+abstract class AbstractThreadingModeLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract String mode();
+
+    @Test
+    void mixedTraffic() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        LoadDriver.Report report = new LoadDriver(client, LoadDriver.Settings.fromSystemProperties())
+                .run(new TaskTraffic(port));
+
+        System.out.println("threading mode: " + mode());
+        report.print(System.out);
+        report.write(Path.of("target", "loadtest"), "threading-" + mode());
+
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(0.01);
+    }
+}
@@ -0,0 +1,26 @@
+package com.todoapp.todo_backend.loadtest;
+
+import com.todoapp.todo_backend.config.EmbeddedStorageConfig;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"loadtest", EmbeddedStorageConfig.PROFILE})
+class EmbeddedStorageLoadTest extends AbstractThreadingModeLoadTest {
+
+    @DynamicPropertySource
+    static void storageDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("embedded-loadtest").toString();
+        registry.add("todo.embedded.directory", () -> directory);
+    }
+
+    @Override
+    protected String mode() {
+        return "embedded";
+    }
+}
@@ -0,0 +1,161 @@
+package com.todoapp.todo_backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Open-model HTTP load generator.
+ *
+ * <p>Requests are issued on a fixed schedule at the configured rate, whether or
+ * not earlier ones have completed, and each latency is measured from the time
+ * the request was <em>scheduled</em> to go out. A stalled server therefore shows
+ * up as queueing delay in the histograms instead of silently lowering the
+ * offered load, which is what keeps the percentiles free of coordinated
+ * omission. In-flight requests are capped so a dead server cannot exhaust the
+ * client; time spent waiting for that cap is still counted.</p>
+ */
+final class LoadDriver {
+
+    /** Run parameters, read from {@code loadtest.*} system properties. */
+    record Settings(double ratePerSecond, Duration duration, Duration warmup, int maxInFlight) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Double.parseDouble(System.getProperty("loadtest.rate", "1000")),
+                    Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                    Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                    Integer.getInteger("loadtest.maxInFlight", 512));
+        }
+    }
+
+    /** One request and what to do with a successful response. */
+    record Call(String endpoint, HttpRequest request, Consumer<String> onSuccess) {
+    }
+
+    private final HttpClient client;
+    private final Settings settings;
+
+    LoadDriver(HttpClient client, Settings settings) {
+        this.client = client;
+        this.settings = settings;
+    }
+
+    Report run(Supplier<Call> traffic) throws InterruptedException {
+        Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond());
+        long warmupNanos = settings.warmup().toNanos();
+        long totalNanos = warmupNanos + settings.duration().toNanos();
+        long start = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended - start >= totalNanos) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            boolean measured = intended - start >= warmupNanos;
+            Call call = traffic.get();
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, ex) -> {
+                long micros = (System.nanoTime() - intended) / 1_000;
+                inFlight.release();
+                boolean ok = ex == null && response.statusCode() < 400;
+                if (measured) {
+                    latencies.computeIfAbsent(call.endpoint(), k -> new ConcurrentHistogram(3)).recordValue(micros);
+                    if (!ok) {
+                        errors.computeIfAbsent(call.endpoint(), k -> new AtomicLong()).incrementAndGet();
+                    }
+                }
+                if (ok) {
+                    call.onSuccess().accept(response.body());
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(settings.maxInFlight(), 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requests still in flight one minute after the run ended");
+        }
+        return new Report(settings, new TreeMap<>(latencies), errors);
+    }
+
+    /** Per-endpoint latency histograms (microseconds) and error counts for the measured window. */
+    record Report(Settings settings, Map<String, Histogram> latencies, Map<String, AtomicLong> errors) {
+
+        long totalRequests() {
+            return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+
+        double errorRate() {
+            long total = totalRequests();
+            return total == 0 ? 0 : (double) totalErrors() / total;
+        }
+
+        /** Overall latency across all endpoints. */
+        Histogram overall() {
+            Histogram all = new Histogram(3);
+            latencies.values().forEach(all::add);
+            return all;
+        }
+
+        void print(PrintStream out) {
+            double seconds = settings.duration().toNanos() / 1e9;
+            out.printf("target rate=%.0f req/s duration=%s maxInFlight=%d%n",
+                    settings.ratePerSecond(), settings.duration(), settings.maxInFlight());
+            out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+            latencies.forEach((endpoint, histogram) -> printRow(out, endpoint, histogram,
+                    errors.getOrDefault(endpoint, new AtomicLong()).get(), seconds));
+            printRow(out, "ALL", overall(), totalErrors(), seconds);
+        }
+
+        /** Writes the summary table plus a full percentile distribution per endpoint. */
+        void write(Path directory, String name) throws IOException {
+            Files.createDirectories(directory);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".txt")))) {
+                print(out);
+            }
+            for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+                String file = name + "-" + entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+                try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)))) {
+                    // Values are recorded in microseconds; scale so the file reads in milliseconds.
+                    entry.getValue().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+
+        private static void printRow(PrintStream out, String endpoint, Histogram h, long errorCount, double seconds) {
+            out.printf("%-24s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, h.getTotalCount(), errorCount, h.getTotalCount() / seconds,
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(95) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0,
+                    h.getMaxValue() / 1000.0);
+        }
+    }
+}
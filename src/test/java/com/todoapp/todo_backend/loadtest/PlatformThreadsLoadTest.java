@@ -0,0 +1,15 @@
+package com.todoapp.todo_backend.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+@ActiveProfiles("loadtest")
+class PlatformThreadsLoadTest extends AbstractThreadingModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,51 @@
+package com.todoapp.todo_backend.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Release gate for {@code /api/tasks}: boots the full app on embedded H2 and
+ * drives the {@link TaskTraffic} mix at a fixed rate (1000 req/s by default)
+ * through real HTTP.
+ *
+ * <p>Run with {@code mvn -Ploadtest test -Dtest=TaskEndpointsLoadTest}. Per-endpoint
+ * throughput and p50/p95/p99/p999 latency are printed and written to
+ * {@code target/loadtest/endpoints.txt}, with full HDR distributions alongside.
+ * Set {@code -Dloadtest.p99Millis=...} to also fail the run when the overall p99
+ * exceeds a budget.</p>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class TaskEndpointsLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void mixedTrafficAtTargetRate() throws Exception {
+        LoadDriver.Settings settings = LoadDriver.Settings.fromSystemProperties();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        LoadDriver.Report report = new LoadDriver(client, settings).run(new TaskTraffic(port));
+
+        report.print(System.out);
+        report.write(Path.of("target", "loadtest"), "endpoints");
+
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")));
+        String p99Budget = System.getProperty("loadtest.p99Millis");
+        if (p99Budget != null) {
+            assertThat(report.overall().getValueAtPercentile(99) / 1000.0).isLessThanOrEqualTo(Double.parseDouble(p99Budget));
+        }
+    }
+}
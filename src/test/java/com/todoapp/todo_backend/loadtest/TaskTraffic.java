@@ -0,0 +1,72 @@
+package com.todoapp.todo_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Mixed dashboard traffic against {@code /api/tasks}: mostly listing polls, plus
+ * creates and completions of tasks this generator created earlier.
+ *
+ * <pre>
+ *   35% GET  /inCompleted      15% GET  /completed      10% GET /inCompleted/history
+ *   25% POST /                 15% POST /{id}/done (a create while none are open)
+ * </pre>
+ */
+final class TaskTraffic implements Supplier<LoadDriver.Call> {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final String base;
+    private final ConcurrentLinkedQueue<Long> open = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    TaskTraffic(int port) {
+        this.base = "http://localhost:" + port + "/api/tasks";
+    }
+
+    @Override
+    public LoadDriver.Call get() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 35) {
+            return read("GET /inCompleted", "/inCompleted");
+        } else if (roll < 50) {
+            return read("GET /completed", "/completed");
+        } else if (roll < 60) {
+            return read("GET /inCompleted/history", "/inCompleted/history?size=20");
+        } else if (roll < 75) {
+            Long id = open.poll();
+            if (id != null) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/" + id + "/done"))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                return new LoadDriver.Call("POST /{id}/done", request, body -> { });
+            }
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"Load task " + sequence.incrementAndGet() + "\",\"description\":\"load test\"}"))
+                .build();
+        return new LoadDriver.Call("POST /", request, this::remember);
+    }
+
+    private LoadDriver.Call read(String endpoint, String path) {
+        return new LoadDriver.Call(endpoint, HttpRequest.newBuilder(URI.create(base + path)).GET().build(), body -> { });
+    }
+
+    private void remember(String body) {
+        try {
+            JsonNode created = JSON.readTree(body);
+            open.add(created.get("id").asLong());
+        } catch (Exception ex) {
+            // Not fatal for the run; the task just never gets completed.
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.todoapp.todo_backend.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"loadtest", "virtual-threads"})
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsLoadTest extends AbstractThreadingModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
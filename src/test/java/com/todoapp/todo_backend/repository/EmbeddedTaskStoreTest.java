@@ -0,0 +1,217 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTaskStore;
+import com.todoapp.todo_backend.repository.embedded.StoredTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedTaskStoreTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedTaskStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void reopen_ShouldReplayCreatedCompletedAndArchivedTasks() throws IOException {
+        // Given
+        store = open();
+        List<StoredTask> created = store.insert(tasks(1000));
+        List<Long> ids = created.stream().map(StoredTask::id).toList();
+        store.complete(ids.subList(0, 600), T0.plusHours(1));
+        store.archive(ids.subList(0, 500));
+
+        // When
+        reopen();
+
+        // Then
+        assertThat(store.count()).isEqualTo(1000);
+        assertThat(store.countCompleted()).isEqualTo(600);
+        assertThat(store.findAll(ids, false)).extracting(StoredTask::id)
+                .containsExactlyInAnyOrderElementsOf(ids.subList(500, 1000));
+        assertThat(store.find(ids.get(0))).satisfies(archived -> {
+            assertThat(archived.title()).isEqualTo(created.get(0).title());
+            assertThat(archived.createdAtTime()).isEqualTo(T0);
+            assertThat(archived.completedAtTime()).isEqualTo(T0.plusHours(1));
+        });
+        assertThat(store.completedPage(null, null, 200)).extracting(StoredTask::id)
+                .containsExactlyElementsOf(reversed(ids.subList(500, 600)));
+        assertThat(store.insert(tasks(1)).get(0).id()).isEqualTo(1001);
+    }
+
+    @Test
+    void reopen_AfterTruncatedWrite_ShouldDropOnlyTheTornRecord() throws IOException {
+        // Given - the file ends halfway through the second record
+        store = open();
+        StoredTask first = store.insert(tasks(1)).get(0);
+        long before = store.logSize();
+        store.insert(tasks(3));
+        long after = store.logSize();
+        store.close();
+        try (FileChannel log = FileChannel.open(logFile(), StandardOpenOption.WRITE)) {
+            log.truncate(before + (after - before) / 2);
+        }
+
+        // When
+        store = open();
+
+        // Then
+        assertThat(store.count()).isEqualTo(1);
+        assertThat(store.find(first.id())).isEqualTo(first);
+        assertThat(store.logSize()).isEqualTo(before);
+        StoredTask next = store.insert(tasks(1)).get(0);
+        reopen();
+        assertThat(store.findAll(List.of(first.id(), next.id()), false)).hasSize(2);
+    }
+
+    @Test
+    void reopen_AfterGarbledWrite_ShouldClearTheRestOfTheLog() throws IOException {
+        // Given - the last record's bytes are only partly on disk, followed by junk
+        store = open();
+        store.insert(tasks(2));
+        long before = store.logSize();
+        store.complete(List.of(1L, 2L), T0.plusMinutes(5));
+        long after = store.logSize();
+        store.close();
+        try (FileChannel log = FileChannel.open(logFile(), StandardOpenOption.WRITE)) {
+            byte[] junk = new byte[(int) (after - before)];
+            Arrays.fill(junk, (byte) 0x5A);
+            log.write(ByteBuffer.wrap(junk, 0, junk.length), before + 4);
+        }
+
+        // When
+        store = open();
+
+        // Then
+        assertThat(store.countCompleted()).isZero();
+        store.complete(List.of(2L), T0.plusMinutes(6));
+        reopen();
+        assertThat(store.countCompleted()).isEqualTo(1);
+        assertThat(store.find(2L).completedAtTime()).isEqualTo(T0.plusMinutes(6));
+        assertThat(store.find(1L).completed()).isFalse();
+    }
+
+    @Test
+    void snapshot_ShouldReplaceOlderFilesAndRecoverWithLaterWrites() throws IOException {
+        // Given
+        store = open();
+        store.insert(tasks(10));
+        store.complete(List.of(3L, 4L), T0.plusDays(1));
+
+        // When
+        boolean written = store.snapshot();
+        store.archive(List.of(3L));
+        store.insert(tasks(1));
+        reopen();
+
+        // Then
+        assertThat(written).isTrue();
+        assertThat(files(".bin")).hasSize(1);
+        assertThat(files(".log")).hasSize(1);
+        assertThat(store.count()).isEqualTo(11);
+        assertThat(store.completedPage(null, null, 10)).extracting(StoredTask::id).containsExactly(4L);
+        assertThat(store.find(3L).completedAtTime()).isEqualTo(T0.plusDays(1));
+        assertThat(store.snapshot()).isTrue();
+        assertThat(store.snapshot()).isFalse();
+    }
+
+    @Test
+    void reopen_WithUnfinishedSnapshotAndFullLogs_ShouldRecoverFromTheLogs() throws IOException {
+        // Given - logs small enough to fill up, and a crash while a snapshot was being written
+        store = EmbeddedTaskStore.open(directory, 1024, 4096);
+        for (int i = 0; i < 40; i++) {
+            store.insert(tasks(5));
+        }
+        store.close();
+        Files.write(directory.resolve("snapshot-0000000099.bin.tmp"), new byte[]{1, 2, 3});
+
+        // When
+        store = EmbeddedTaskStore.open(directory, 1024, 4096);
+
+        // Then
+        assertThat(files(".log").size()).isGreaterThan(1);
+        assertThat(files(".tmp")).isEmpty();
+        assertThat(store.count()).isEqualTo(200);
+        assertThat(store.openPage(null, null, 1)).extracting(StoredTask::id).containsExactly(200L);
+    }
+
+    @Test
+    void pages_ShouldWalkTheTimeIndexesNewestFirstWithIdAsTieBreaker() throws IOException {
+        // Given - tasks 1-3 share a creation time
+        store = open();
+        store.insert(tasks(3));
+        store.insert(List.of(StoredTask.unsaved("Later", null, T0.plusSeconds(1), null)));
+        store.complete(List.of(4L), T0.plusSeconds(2));
+
+        // When
+        List<StoredTask> firstPage = store.openPage(null, null, 2);
+        StoredTask last = firstPage.get(1);
+        List<StoredTask> secondPage = store.openPage(last.createdAtTime(), last.id(), 2);
+
+        // Then
+        assertThat(firstPage).extracting(StoredTask::id).containsExactly(3L, 2L);
+        assertThat(secondPage).extracting(StoredTask::id).containsExactly(1L);
+        assertThat(store.completedBefore(T0.plusSeconds(3), null, null, 10)).extracting(StoredTask::id)
+                .containsExactly(4L);
+        assertThat(store.completedBefore(T0.plusSeconds(2), null, null, 10)).isEmpty();
+        assertThat(store.oldestCompletionTime()).isEqualTo(T0.plusSeconds(2));
+    }
+
+    private EmbeddedTaskStore open() throws IOException {
+        return EmbeddedTaskStore.open(directory, 64 * 1024, 1 << 20);
+    }
+
+    private void reopen() throws IOException {
+        store.close();
+        store = open();
+    }
+
+    private static List<StoredTask> tasks(int count) {
+        List<StoredTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(StoredTask.unsaved("Task " + i, i % 2 == 0 ? null : "Description " + i, T0, null));
+        }
+        return tasks;
+    }
+
+    private static List<Long> reversed(List<Long> ids) {
+        return LongStream.range(0, ids.size()).mapToObj(i -> ids.get(ids.size() - 1 - (int) i)).toList();
+    }
+
+    private Path logFile() throws IOException {
+        List<Path> logs = files(".log");
+        assertThat(logs).hasSize(1);
+        return logs.get(0);
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix)).toList();
+        }
+    }
+}
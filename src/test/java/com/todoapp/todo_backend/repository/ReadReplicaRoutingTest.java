@@ -0,0 +1,118 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.config.ReadWriteRoutingDataSource;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two separate H2 databases standing in for a primary and a
+ * replica. Nothing replicates between them, so which rows come back shows
+ * which database served the read.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "todo.datasource.routing.enabled=true",
+        "todo.datasource.routing.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "todo.datasource.routing.health-check-interval=PT1H",
+        "todo.datasource.routing.read-your-writes-window=PT1M"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final JdbcTemplate replica = new JdbcTemplate(
+            new SimpleDriverDataSource(new org.h2.Driver(), REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        // Column names as the primary's schema has them: the naming strategy keeps the field names.
+        replica.execute("create table if not exists task (id bigint primary key, title varchar(200) not null, "
+                + "description varchar(2000), completed boolean not null, createdAt timestamp(6) not null, "
+                + "completedAt timestamp(6))");
+        replica.update("delete from task");
+        replica.update("insert into task (id, title, completed, createdAt) values (?, ?, false, ?)",
+                -1L, "Replica copy", LocalDateTime.now());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldBeServedByReplica() {
+        // Given
+        taskService.createTask(request("Primary only"));
+
+        // When
+        TaskPageResponseDto page = taskService.getInCompletedPage(null, 10);
+
+        // Then
+        assertThat(page.getItems()).extracting(TaskResponseDto::getTitle).containsExactly("Replica copy");
+    }
+
+    @Test
+    void write_ShouldGoToPrimaryOnly() {
+        // When
+        TaskResponseDto created = taskService.createTask(request("New task"));
+
+        // Then
+        assertThat(ReadWriteRoutingDataSource.onPrimary(() -> taskRepository.findById(created.getId()))).isPresent();
+        assertThat(replica.queryForObject("select count(*) from task where id = ?", Long.class, created.getId()))
+                .isZero();
+    }
+
+    @Test
+    void readAfterWrite_WithPinCookie_ShouldBeServedByPrimary() throws Exception {
+        // Given - the client writes and gets the pin cookie back
+        MvcResult write = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Just written\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(cookie().exists("todo-primary-until"))
+                .andReturn();
+        Cookie pin = write.getResponse().getCookie("todo-primary-until");
+
+        // When / Then - the writer sees its own task, everyone else still reads the replica
+        mockMvc.perform(get("/api/tasks/inCompleted/history").cookie(pin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Just written"));
+        mockMvc.perform(get("/api/tasks/inCompleted/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Replica copy"));
+    }
+
+    private TaskRequestDto request(String title) {
+        TaskRequestDto dto = new TaskRequestDto();
+        dto.setTitle(title);
+        return dto;
+    }
+}
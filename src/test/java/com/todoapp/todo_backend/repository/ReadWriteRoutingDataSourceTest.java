@@ -0,0 +1,159 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.config.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaAConnection;
+
+    @Mock
+    private Connection replicaBConnection;
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaA);
+        replicas.put("replica-1", replicaB);
+        routing = new ReadWriteRoutingDataSource(primary, replicas);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransaction_ShouldRoundRobinOverReplicas() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When / Then
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_OutsideReadOnlyTransaction_ShouldUsePrimary() throws SQLException {
+        // When
+        Connection connection = routing.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    void getConnection_WhenPinnedToPrimary_ShouldIgnoreReplicas() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection pinned;
+        try (ReadWriteRoutingDataSource.PrimaryPin ignored = ReadWriteRoutingDataSource.pinToPrimary()) {
+            pinned = routing.getConnection();
+        }
+        Connection afterPin = routing.getConnection();
+
+        // Then
+        assertThat(pinned).isSameAs(primaryConnection);
+        assertThat(afterPin).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    void getConnection_WhenReplicaFails_ShouldFallBackAndSkipItUntilHealthy() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // When
+        Connection fallback = routing.getConnection();
+        Connection next = routing.getConnection();
+        Connection again = routing.getConnection();
+
+        // Then
+        assertThat(fallback).isSameAs(primaryConnection);
+        assertThat(next).isSameAs(replicaBConnection);
+        assertThat(again).isSameAs(replicaBConnection);
+        assertThat(routing.healthyReplicas()).containsExactly("replica-1");
+    }
+
+    @Test
+    void checkReplicas_ShouldTakeReplicasOutAndBackIntoRotation() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(false);
+
+        // When
+        routing.checkReplicas();
+
+        // Then
+        assertThat(routing.healthyReplicas()).containsExactly("replica-0");
+
+        // When - replica B recovers, replica A goes away
+        when(replicaBConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.checkReplicas();
+
+        // Then
+        assertThat(routing.healthyReplicas()).containsExactly("replica-1");
+        assertThat(routing.getConnection()).isSameAs(replicaBConnection);
+    }
+
+    @Test
+    void getConnection_WithNoHealthyReplica_ShouldUsePrimary() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(false);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(false);
+        routing.checkReplicas();
+
+        // When
+        Connection connection = routing.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+}
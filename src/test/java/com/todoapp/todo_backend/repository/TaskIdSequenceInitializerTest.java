@@ -0,0 +1,89 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.config.TaskIdSequenceInitializer;
+import com.todoapp.todo_backend.models.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskIdSequenceInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskIdSequenceInitializerTest {
+
+    @Autowired
+    private TaskIdSequenceInitializer initializer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task");
+        jdbcTemplate.update("DELETE FROM task_archive");
+    }
+
+    @Test
+    void seed_WithExistingRows_ShouldHandOutIdsAboveEveryExistingId() {
+        // Given - rows written before ids came from the sequence, one of them already archived
+        LocalDateTime now = LocalDateTime.now();
+        for (long id : new long[]{1, 2, 3, 640}) {
+            jdbcTemplate.update("INSERT INTO task (id, title, completed, createdAt) VALUES (?, ?, false, ?)",
+                    id, "Existing " + id, now);
+        }
+        jdbcTemplate.update("INSERT INTO task_archive (id, title, createdAt, completedAt) VALUES (700, 'Archived', ?, ?)",
+                now, now);
+
+        // When
+        long raisedTo = initializer.seed();
+        List<Task> saved = new ArrayList<>();
+        for (int i = 0; i < Task.ID_ALLOCATION_SIZE + 10; i++) {
+            Task task = new Task();
+            task.setTitle("New " + i);
+            saved.add(taskRepository.save(task));
+        }
+
+        // Then
+        assertThat(raisedTo).isEqualTo(700 + Task.ID_ALLOCATION_SIZE);
+        assertThat(saved).extracting(Task::getId).doesNotHaveDuplicates().allMatch(id -> id > 700);
+        assertThat(taskRepository.count()).isEqualTo(4 + Task.ID_ALLOCATION_SIZE + 10);
+        assertThat(initializer.seed()).isZero();
+    }
+
+    @Test
+    void onApplicationReady_WithoutJdbcAccessAtBoot_ShouldNotTouchTheDatabase() {
+        // Given
+        JdbcTemplate database = mock(JdbcTemplate.class);
+        TaskIdSequenceInitializer fastStart = new TaskIdSequenceInitializer(database, entityManagerFactory);
+        ReflectionTestUtils.setField(fastStart, "jdbcMetadataAccess", false);
+
+        // When
+        fastStart.onApplicationReady();
+
+        // Then
+        verifyNoInteractions(database);
+    }
+}
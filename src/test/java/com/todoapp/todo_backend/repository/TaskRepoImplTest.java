@@ -0,0 +1,182 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.IMPL.TaskRepoImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskRepoImpl.class)
+class TaskRepoImplTest {
+
+    @Autowired
+    private TaskRepoImpl taskRepoImpl;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void saveAll_ShouldPersistEveryChunkAndKeepInputOrder() {
+        // Given - more tasks than one JDBC batch
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(createTask("Task " + i, false));
+        }
+
+        // When
+        List<Task> saved = taskRepoImpl.saveAll(tasks);
+
+        // Then
+        assertThat(saved).hasSize(120);
+        assertThat(saved).extracting(Task::getTitle).containsExactlyElementsOf(
+                tasks.stream().map(Task::getTitle).toList());
+        assertThat(saved).allMatch(task -> task.getId() != null);
+        assertThat(taskRepository.count()).isEqualTo(120);
+    }
+
+    @Test
+    void markCompleted_ShouldOnlyUpdateIncompleteTasks() {
+        // Given
+        Task open = taskRepository.save(createTask("Open", false));
+        Task done = taskRepository.save(createTask("Done", true));
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        // When
+        int updated = taskRepoImpl.markCompleted(List.of(open.getId(), done.getId(), -1L), now);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        List<TaskCompletionState> states = taskRepoImpl.findCompletionStates(List.of(open.getId(), done.getId(), -1L));
+        assertThat(states).extracting(TaskCompletionState::id).containsExactlyInAnyOrder(open.getId(), done.getId());
+        assertThat(states).filteredOn(state -> state.id().equals(open.getId()))
+                .extracting(TaskCompletionState::completedAt).containsExactly(now);
+        assertThat(states).filteredOn(state -> state.id().equals(done.getId()))
+                .extracting(TaskCompletionState::completedAt).doesNotContain(now);
+        assertThat(taskRepository.findById(open.getId())).get().extracting(Task::getCompleted).isEqualTo(true);
+    }
+
+    @Test
+    void getLatestTaskDtos_ShouldNotLeaveManagedEntities() {
+        // Given
+        for (int i = 1; i <= 7; i++) {
+            taskRepository.save(createTask("Completed " + i, true));
+            taskRepository.save(createTask("Open " + i, false));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TaskResponseDto> completed = taskRepoImpl.getLatestCompletedTaskDtos();
+        List<TaskResponseDto> inCompleted = taskRepoImpl.getLatestInCompletedTaskDtos();
+
+        // Then
+        assertThat(completed).hasSize(5).allMatch(dto -> dto.getCompletedAt() != null);
+        assertThat(inCompleted).hasSize(5).allMatch(dto -> dto.getCompletedAt() == null);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void statisticsAggregates_ShouldCountAndSumCompletionTimes() {
+        // Given - createdAt is stamped on insert, so completion is set relative to now
+        LocalDateTime now = LocalDateTime.now();
+        Task done = createTask("Done", true);
+        done.setCompletedAt(now.plusSeconds(90));
+        taskRepository.save(done);
+        taskRepository.save(createTask("Open", false));
+        entityManager.flush();
+
+        // When
+        long total = taskRepoImpl.countTasks();
+        long completed = taskRepoImpl.countCompletedTasks();
+        long seconds = taskRepoImpl.sumTimeToCompleteSeconds();
+        List<TaskCreationTime> created = taskRepoImpl.findCreationTimes(List.of(done.getId(), -1L));
+        List<LocalDateTime> recent;
+        try (var times = taskRepoImpl.streamCompletionTimesSince(now)) {
+            recent = times.toList();
+        }
+
+        // Then
+        assertThat(total).isEqualTo(2);
+        assertThat(completed).isEqualTo(1);
+        assertThat(seconds).isBetween(89L, 90L);
+        assertThat(created).extracting(TaskCreationTime::id).containsExactly(done.getId());
+        assertThat(recent).hasSize(1);
+    }
+
+    @Test
+    void archiveTasks_ShouldMoveOldCompletedTasksInKeysetBatchesAndKeepThemReadable() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> old = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = createTask("Old " + i, true);
+            task.setCompletedAt(now.minusDays(100).plusSeconds(i));
+            old.add(taskRepository.save(task));
+        }
+        Task recent = taskRepository.save(createTask("Recent", true));
+        Task open = taskRepository.save(createTask("Open", false));
+        entityManager.flush();
+        LocalDateTime cutoff = now.minusDays(90);
+
+        // When
+        List<TaskCompletionState> first = taskRepoImpl.findArchivableTasks(cutoff, null, null, 2);
+        TaskCompletionState last = first.get(1);
+        List<TaskCompletionState> second = taskRepoImpl.findArchivableTasks(cutoff, last.completedAt(), last.id(), 2);
+        int moved = taskRepoImpl.archiveTasks(List.of(old.get(0).getId(), old.get(1).getId(), old.get(2).getId()));
+
+        // Then
+        assertThat(first).extracting(TaskCompletionState::id).containsExactly(old.get(0).getId(), old.get(1).getId());
+        assertThat(second).extracting(TaskCompletionState::id).containsExactly(old.get(2).getId());
+        assertThat(moved).isEqualTo(3);
+        assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactlyInAnyOrder(recent.getId(), open.getId());
+        assertThat(taskRepoImpl.findOldestCompletionTime()).isCloseTo(recent.getCompletedAt(), within(1, ChronoUnit.MILLIS));
+
+        Long archivedId = old.get(0).getId();
+        assertThat(taskRepoImpl.findByTaskId(archivedId)).get()
+                .satisfies(task -> {
+                    assertThat(task.getTitle()).isEqualTo("Old 0");
+                    assertThat(task.getCompleted()).isTrue();
+                });
+        assertThat(taskRepoImpl.existsByTaskId(archivedId)).isTrue();
+        assertThat(taskRepoImpl.findCompletionStates(List.of(archivedId, open.getId())))
+                .extracting(TaskCompletionState::id).containsExactlyInAnyOrder(archivedId, open.getId());
+        assertThat(taskRepoImpl.countTasks()).isEqualTo(5);
+        assertThat(taskRepoImpl.countCompletedTasks()).isEqualTo(4);
+    }
+
+    private Task createTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description for " + title);
+        task.setCompleted(completed);
+        task.setCreatedAt(LocalDateTime.now());
+        if (completed) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+        return task;
+    }
+}
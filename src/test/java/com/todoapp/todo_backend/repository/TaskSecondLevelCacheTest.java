@@ -0,0 +1,140 @@
+package com.todoapp.todo_backend.repository;
+
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskSecondLevelCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepositoryTemplate taskRepositoryTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    @Test
+    void getTask_WhenRepeated_ShouldBeServedFromSecondLevelCache() {
+        // Given
+        Long id = taskService.createTask(request("Cached")).getId();
+        sessionFactory.getCache().evictEntityData(Task.class, id);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        // When
+        TaskResponseDto first = taskService.getTask(id);
+        TaskResponseDto second = taskService.getTask(id);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(sessionFactory.getCache().containsEntity(Task.class, id)).isTrue();
+    }
+
+    @Test
+    void getTask_AfterMarkDone_ShouldNotReturnStaleCachedTask() {
+        // Given - the incomplete task is cached
+        Long id = taskService.createTask(request("Complete me")).getId();
+        assertThat(taskService.getTask(id).getCompletedAt()).isNull();
+        assertThat(sessionFactory.getCache().containsEntity(Task.class, id)).isTrue();
+
+        // When
+        taskService.markDone(id);
+
+        // Then
+        assertThat(taskService.getTask(id).getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void getTask_AfterBatchMarkDone_ShouldNotReturnStaleCachedTasks() {
+        // Given
+        Long first = taskService.createTask(request("First")).getId();
+        Long second = taskService.createTask(request("Second")).getId();
+        Long untouched = taskService.createTask(request("Untouched")).getId();
+        List.of(first, second, untouched).forEach(taskService::getTask);
+
+        // When
+        taskService.markDone(List.of(first, second));
+
+        // Then
+        assertThat(taskService.getTask(first).getCompletedAt()).isNotNull();
+        assertThat(taskService.getTask(second).getCompletedAt()).isNotNull();
+        assertThat(taskService.getTask(untouched).getCompletedAt()).isNull();
+    }
+
+    @Test
+    void markDone_ShouldEvictOnlyTheCompletedTasks() {
+        // Given
+        Long done = taskService.createTask(request("Done")).getId();
+        Long untouched = taskService.createTask(request("Untouched")).getId();
+        List.of(done, untouched).forEach(taskService::getTask);
+
+        // When
+        taskService.markDone(done);
+
+        // Then
+        assertThat(sessionFactory.getCache().containsEntity(Task.class, done)).isFalse();
+        assertThat(sessionFactory.getCache().containsEntity(Task.class, untouched)).isTrue();
+    }
+
+    @Test
+    void streamTasks_ShouldNotFillTheCache() {
+        // Given
+        Long id = taskService.createTask(request("Exported")).getId();
+        sessionFactory.getCache().evictEntityData(Task.class, id);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Task> tasks = taskRepositoryTemplate.streamTasks(null, null, null)) {
+                assertThat(tasks).extracting(Task::getId).contains(id);
+            }
+        });
+
+        // Then
+        assertThat(sessionFactory.getCache().containsEntity(Task.class, id)).isFalse();
+    }
+
+    private TaskRequestDto request(String title) {
+        TaskRequestDto dto = new TaskRequestDto();
+        dto.setTitle(title);
+        return dto;
+    }
+}
@@ -0,0 +1,163 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.LatestTasksCache;
+import com.todoapp.todo_backend.business.TaskChangeVersion;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatestTasksCacheTest {
+
+    private final LatestTasksCache cache = new LatestTasksCache();
+
+    @Test
+    void getInCompleted_ShouldLoadOnceAndServeFromMemory() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        List<TaskResponseDto> fromDb = List.of(dto(1L, LocalDateTime.now(), null));
+
+        // When
+        cache.getInCompleted(() -> { loads.incrementAndGet(); return fromDb; });
+        List<TaskResponseDto> result = cache.getInCompleted(() -> { loads.incrementAndGet(); return fromDb; });
+
+        // Then
+        assertThat(result).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void version_ShouldAdvanceOnEveryAppliedWrite() {
+        // Given
+        TaskChangeVersion initial = cache.version();
+
+        // When
+        cache.onTaskCreated(new TaskCreatedEvent(dto(1L, LocalDateTime.now(), null)));
+        TaskChangeVersion afterCreate = cache.version();
+        cache.onTaskCompleted(new TaskCompletedEvent(List.of(1L), LocalDateTime.now()));
+        TaskChangeVersion afterComplete = cache.version();
+        cache.onTasksArchived(new TasksArchivedEvent(List.of(1L)));
+
+        // Then
+        assertThat(afterCreate.value()).isGreaterThan(initial.value());
+        assertThat(afterComplete.value()).isGreaterThan(afterCreate.value());
+        assertThat(cache.version().value()).isGreaterThan(afterComplete.value());
+        assertThat(cache.version().changedAt()).isAfterOrEqualTo(initial.changedAt());
+        assertThat(afterCreate.etag("completed")).isNotEqualTo(initial.etag("completed"));
+    }
+
+    @Test
+    void onTasksArchived_ShouldDropArchivedTasksFromCompletedList() {
+        // Given
+        LocalDateTime base = LocalDateTime.now();
+        cache.getCompleted(() -> List.of(dto(2L, base, base.plusSeconds(2)), dto(1L, base, base.plusSeconds(1))));
+
+        // When
+        cache.onTasksArchived(new TasksArchivedEvent(List.of(1L)));
+
+        // Then
+        assertThat(cache.getCompleted(List::of)).extracting(TaskResponseDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    void onTaskCreated_ShouldPrependAndKeepAtMostFiveTasks() {
+        // Given
+        LocalDateTime base = LocalDateTime.now();
+        List<TaskResponseDto> fromDb = new ArrayList<>();
+        for (long id = 5; id >= 1; id--) {
+            fromDb.add(dto(id, base.plusSeconds(id), null));
+        }
+        cache.getInCompleted(() -> fromDb);
+
+        // When
+        cache.onTaskCreated(new TaskCreatedEvent(dto(6L, base.plusSeconds(6), null)));
+
+        // Then
+        List<TaskResponseDto> result = cache.getInCompleted(List::of);
+        assertThat(result).extracting(TaskResponseDto::getId).containsExactly(6L, 5L, 4L, 3L, 2L);
+    }
+
+    @Test
+    void onTaskCompleted_ShouldMoveTaskBetweenLists() {
+        // Given
+        LocalDateTime base = LocalDateTime.now();
+        cache.getInCompleted(() -> List.of(dto(2L, base.plusSeconds(2), null), dto(1L, base.plusSeconds(1), null)));
+        cache.getCompleted(() -> List.of(dto(9L, base, base)));
+
+        // When
+        cache.onTaskCompleted(new TaskCompletedEvent(List.of(1L), base.plusSeconds(10)));
+
+        // Then
+        assertThat(cache.getInCompleted(List::of)).extracting(TaskResponseDto::getId).containsExactly(2L);
+        assertThat(cache.getCompleted(List::of)).extracting(TaskResponseDto::getId).containsExactly(1L, 9L);
+        assertThat(cache.getCompleted(List::of).get(0).getCompletedAt()).isEqualTo(base.plusSeconds(10));
+    }
+
+    @Test
+    void onTaskCompleted_WhenTaskWasNotCached_ShouldReloadCompletedList() {
+        // Given
+        LocalDateTime base = LocalDateTime.now();
+        cache.getInCompleted(() -> List.of(dto(2L, base, null)));
+        cache.getCompleted(() -> List.of(dto(9L, base, base)));
+
+        // When - task 7 is older than anything in the cached incomplete list
+        cache.onTaskCompleted(new TaskCompletedEvent(List.of(7L), base.plusSeconds(10)));
+
+        // Then
+        assertThat(cache.getInCompleted(List::of)).extracting(TaskResponseDto::getId).containsExactly(2L);
+        List<TaskResponseDto> reloaded = List.of(dto(7L, base, base.plusSeconds(10)), dto(9L, base, base));
+        assertThat(cache.getCompleted(() -> reloaded)).extracting(TaskResponseDto::getId).containsExactly(7L, 9L);
+    }
+
+    @Test
+    void onTaskCompleted_WhenIncompleteListWasFull_ShouldReloadOnNextRead() {
+        // Given
+        LocalDateTime base = LocalDateTime.now();
+        List<TaskResponseDto> full = new ArrayList<>();
+        for (long id = 5; id >= 1; id--) {
+            full.add(dto(id, base.plusSeconds(id), null));
+        }
+        cache.getInCompleted(() -> full);
+
+        // When
+        cache.onTaskCompleted(new TaskCompletedEvent(List.of(5L), base.plusSeconds(10)));
+
+        // Then - the sixth newest task is unknown to the cache, so it must go back to the database
+        List<TaskResponseDto> reloaded = List.of(dto(4L, base, null));
+        assertThat(cache.getInCompleted(() -> reloaded)).extracting(TaskResponseDto::getId).containsExactly(4L);
+    }
+
+    @Test
+    void getCompleted_WhenWriteRacesWithLoad_ShouldNotCacheStaleResult() {
+        // Given - nothing cached yet
+        LocalDateTime base = LocalDateTime.now();
+
+        // When - a completion commits while the reload is still reading the old rows
+        List<TaskResponseDto> stale = cache.getCompleted(() -> {
+            cache.onTaskCompleted(new TaskCompletedEvent(List.of(2L), base.plusSeconds(1)));
+            return List.of(dto(1L, base, base));
+        });
+
+        // Then
+        assertThat(stale).extracting(TaskResponseDto::getId).containsExactly(1L);
+        assertThat(cache.getCompleted(() -> List.of(dto(2L, base, base.plusSeconds(1)), dto(1L, base, base))))
+                .extracting(TaskResponseDto::getId).containsExactly(2L, 1L);
+    }
+
+    private TaskResponseDto dto(Long id, LocalDateTime createdAt, LocalDateTime completedAt) {
+        TaskResponseDto dto = new TaskResponseDto();
+        dto.setId(id);
+        dto.setTitle("Task " + id);
+        dto.setCreatedAt(createdAt);
+        dto.setCompletedAt(completedAt);
+        return dto;
+    }
+}
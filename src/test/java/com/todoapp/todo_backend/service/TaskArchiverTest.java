@@ -0,0 +1,115 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskArchiver;
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+
+    @Mock
+    private TaskRepositoryTemplate taskRepositoryTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<HikariDataSource> pool;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new TaskArchiver(taskRepositoryTemplate, transactionManager, eventPublisher, pool, registry);
+        ReflectionTestUtils.setField(archiver, "enabled", true);
+        ReflectionTestUtils.setField(archiver, "batchSize", 2);
+        ReflectionTestUtils.setField(archiver, "batchPause", Duration.ZERO);
+    }
+
+    @Test
+    void archive_ShouldMoveDueTasksInKeysetBatchesAndReportProgress() {
+        // Given
+        LocalDateTime old = LocalDateTime.now().minusDays(120);
+        TaskCompletionState first = new TaskCompletionState(1L, old);
+        TaskCompletionState second = new TaskCompletionState(2L, old.plusSeconds(1));
+        TaskCompletionState third = new TaskCompletionState(3L, old.plusSeconds(2));
+        when(taskRepositoryTemplate.findArchivableTasks(any(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(taskRepositoryTemplate.findArchivableTasks(any(), eq(second.completedAt()), eq(2L), eq(2)))
+                .thenReturn(List.of(third));
+        when(taskRepositoryTemplate.archiveTasks(any())).thenAnswer(inv -> inv.<List<Long>>getArgument(0).size());
+        when(taskRepositoryTemplate.findOldestCompletionTime()).thenReturn(LocalDateTime.now().minusDays(100));
+
+        // When
+        archiver.archive();
+
+        // Then
+        verify(taskRepositoryTemplate).archiveTasks(List.of(1L, 2L));
+        verify(taskRepositoryTemplate).archiveTasks(List.of(3L));
+        verify(eventPublisher).publishEvent(new TasksArchivedEvent(List.of(1L, 2L)));
+        verify(eventPublisher).publishEvent(new TasksArchivedEvent(List.of(3L)));
+        assertThat(registry.get("tasks.archive.archived").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("tasks.archive.batch").timer().count()).isEqualTo(2);
+        assertThat(registry.get("tasks.archive.lag").gauge().value())
+                .isBetween((double) Duration.ofDays(10).minusMinutes(1).toSeconds(), (double) Duration.ofDays(10).toSeconds());
+    }
+
+    @Test
+    void archive_WhenPoolHasWaiters_ShouldYieldWithoutTouchingTasks() {
+        // Given
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        HikariPoolMXBean stats = mock(HikariPoolMXBean.class);
+        when(pool.getIfUnique()).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(stats);
+        when(stats.getThreadsAwaitingConnection()).thenReturn(3);
+
+        // When
+        archiver.archive();
+
+        // Then
+        verify(taskRepositoryTemplate, never()).findArchivableTasks(any(), any(), any(), anyInt());
+        verify(taskRepositoryTemplate, never()).archiveTasks(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void archive_WhenDisabled_ShouldDoNothing() {
+        // Given
+        ReflectionTestUtils.setField(archiver, "enabled", false);
+
+        // When
+        archiver.archive();
+
+        // Then
+        verifyNoInteractions(taskRepositoryTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,305 @@
+package com.todoapp.todo_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.business.TaskChangeFeed;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeFeedTest {
+
+    /** Runs dispatcher work only when the test says so, standing in for a slow client. */
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final TaskChangeFeed feed = new TaskChangeFeed(new ObjectMapper().findAndRegisterModules(), pending::add);
+
+    @Test
+    void publishedChanges_ShouldReachSubscriberInOrder() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+
+        // When
+        feed.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        feed.onTaskCompleted(new TaskCompletedEvent(List.of(1L), LocalDateTime.now()));
+        runPending();
+
+        // Then
+        assertThat(sink.received).extracting(TaskChangeFeed.Change::type).containsExactly("created", "completed");
+        assertThat(sink.received.get(0).data()).contains("\"id\":1");
+        assertThat(sink.received.get(1).data()).contains("\"ids\":[1]");
+        assertThat(sink.received).extracting(TaskChangeFeed.Change::id).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void tasksCreatedInOneTransaction_ShouldBeSentAsOneChange() {
+        // Given - a buffer smaller than the batch
+        ReflectionTestUtils.setField(feed, "bufferSize", 2);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long id = 1; id <= 5; id++) {
+                feed.onTaskCreated(new TaskCreatedEvent(dto(id)));
+            }
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        runPending();
+
+        // Then
+        assertThat(sink.closed).isFalse();
+        assertThat(sink.received).singleElement().satisfies(change -> {
+            assertThat(change.type()).isEqualTo("created");
+            assertThat(change.data()).startsWith("{\"tasks\":[").contains("\"id\":1", "\"id\":5");
+        });
+    }
+
+    @Test
+    void tasksCreatedInRolledBackTransaction_ShouldNotBeSent() {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(null, sink);
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            feed.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        runPending();
+
+        // Then
+        assertThat(sink.received).isEmpty();
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayOnlyMissedChanges() {
+        // Given
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        feed.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        runPending();
+        String lastSeen = first.received.get(0).id();
+        feed.onTaskCreated(new TaskCreatedEvent(dto(2L)));
+        feed.onTaskCreated(new TaskCreatedEvent(dto(3L)));
+
+        // When
+        RecordingSink resumed = new RecordingSink();
+        feed.subscribe(lastSeen, resumed);
+        runPending();
+
+        // Then
+        assertThat(resumed.received).extracting(TaskChangeFeed.Change::data)
+                .hasSize(2)
+                .allMatch(data -> data.contains("\"id\":2") || data.contains("\"id\":3"));
+    }
+
+    @Test
+    void subscribe_WithIdOutsideReplayLog_ShouldSendReset() {
+        // Given
+        ReflectionTestUtils.setField(feed, "replaySize", 2);
+        RecordingSink first = new RecordingSink();
+        feed.subscribe(null, first);
+        feed.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        runPending();
+        String evicted = first.received.get(0).id();
+        for (long id = 2; id <= 4; id++) {
+            feed.onTaskCreated(new TaskCreatedEvent(dto(id)));
+        }
+
+        // When
+        RecordingSink fromEvicted = new RecordingSink();
+        RecordingSink fromOtherInstance = new RecordingSink();
+        feed.subscribe(evicted, fromEvicted);
+        feed.subscribe("someoneelse-7", fromOtherInstance);
+        runPending();
+
+        // Then
+        assertThat(fromEvicted.received).containsExactly(TaskChangeFeed.RESET);
+        assertThat(fromOtherInstance.received).containsExactly(TaskChangeFeed.RESET);
+    }
+
+    @Test
+    void slowConsumer_WithDisconnectPolicy_ShouldBeClosedWithoutAffectingOthers() {
+        // Given
+        ReflectionTestUtils.setField(feed, "bufferSize", 2);
+        RecordingSink slow = new RecordingSink();
+        feed.subscribe(null, slow);
+
+        // When - three changes arrive before the dispatcher gets to run
+        for (long id = 1; id <= 3; id++) {
+            feed.onTaskCreated(new TaskCreatedEvent(dto(id)));
+        }
+        RecordingSink fresh = new RecordingSink();
+        feed.subscribe(null, fresh);
+        feed.onTaskCreated(new TaskCreatedEvent(dto(4L)));
+        runPending();
+
+        // Then
+        assertThat(slow.closed).isTrue();
+        assertThat(slow.received).isEmpty();
+        assertThat(fresh.received).hasSize(1);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void slowConsumer_WithDropPolicy_ShouldReceiveResetInsteadOfBacklog() {
+        // Given
+        ReflectionTestUtils.setField(feed, "bufferSize", 2);
+        ReflectionTestUtils.setField(feed, "slowConsumerPolicy", TaskChangeFeed.SlowConsumerPolicy.DROP);
+        RecordingSink slow = new RecordingSink();
+        feed.subscribe(null, slow);
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            feed.onTaskCreated(new TaskCreatedEvent(dto(id)));
+        }
+        runPending();
+
+        // Then
+        assertThat(slow.closed).isFalse();
+        assertThat(slow.received).containsExactly(TaskChangeFeed.RESET);
+    }
+
+    @Test
+    void stalledSink_ShouldBeDroppedWithoutHoldingUpOtherSubscribers() throws Exception {
+        // Given - a single dispatcher thread, and a client whose connection accepts no more data
+        ThreadPoolExecutor dispatcher = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        TaskChangeFeed pooledFeed = new TaskChangeFeed(new ObjectMapper().findAndRegisterModules(), dispatcher);
+        ReflectionTestUtils.setField(pooledFeed, "sendTimeout", Duration.ofMillis(50));
+        StalledSink stalled = new StalledSink();
+        BlockingQueue<TaskChangeFeed.Change> healthy = new LinkedBlockingQueue<>();
+        pooledFeed.subscribe(null, stalled);
+        pooledFeed.subscribe(null, new TaskChangeFeed.Sink() {
+            @Override
+            public void send(TaskChangeFeed.Change change) {
+                healthy.add(change);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        try {
+            // When
+            pooledFeed.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+            assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            pooledFeed.dropStalledSubscribers();
+            pooledFeed.onTaskCreated(new TaskCreatedEvent(dto(2L)));
+
+            // Then - the healthy subscriber gets both changes while the stalled send is still blocked
+            assertThat(healthy.poll(5, TimeUnit.SECONDS)).extracting(TaskChangeFeed.Change::data).asString().contains("\"id\":1");
+            assertThat(healthy.poll(5, TimeUnit.SECONDS)).extracting(TaskChangeFeed.Change::data).asString().contains("\"id\":2");
+            assertThat(pooledFeed.subscriberCount()).isEqualTo(1);
+            assertThat(stalled.closed).isFalse();
+
+            stalled.release.countDown();
+            assertThat(stalled.closing.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(stalled.sent).hasValue(1);
+            assertThat(dispatcher.getCorePoolSize()).isEqualTo(1);
+        } finally {
+            stalled.release.countDown();
+            dispatcher.shutdownNow();
+        }
+    }
+
+    @Test
+    void heartbeat_ShouldOnlyGoToIdleSubscribers() {
+        // Given - the busy subscriber still has an undelivered reset queued
+        RecordingSink idle = new RecordingSink();
+        RecordingSink busy = new RecordingSink();
+        feed.subscribe(null, idle);
+        feed.subscribe("unknown-1", busy);
+
+        // When
+        feed.heartbeat();
+        runPending();
+
+        // Then
+        assertThat(idle.received).containsExactly(TaskChangeFeed.HEARTBEAT);
+        assertThat(busy.received).containsExactly(TaskChangeFeed.RESET);
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private TaskResponseDto dto(Long id) {
+        return new TaskResponseDto(id, "Task " + id, null, LocalDateTime.now(), null);
+    }
+
+    /** Blocks in its first send until released, like a client that stopped reading. */
+    private static class StalledSink implements TaskChangeFeed.Sink {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch closing = new CountDownLatch(1);
+        final AtomicInteger sent = new AtomicInteger();
+        volatile boolean closed;
+
+        @Override
+        public void send(TaskChangeFeed.Change change) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            closing.countDown();
+        }
+    }
+
+    private static class RecordingSink implements TaskChangeFeed.Sink {
+        final List<TaskChangeFeed.Change> received = new ArrayList<>();
+        boolean closed;
+
+        @Override
+        public void send(TaskChangeFeed.Change change) {
+            received.add(change);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskExportService;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.repository.TaskRepository;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a table far larger than the heap the test runs with.
+ *
+ * <p>Tagged {@code small-heap}: surefire runs it in its own JVM with a small
+ * {@code -Xmx} (see {@code pom.xml}), where holding every exported task in
+ * memory at once fails with an {@link OutOfMemoryError}. The rows live in a
+ * file-backed H2 database with lazy query execution, so the database streams
+ * them like MySQL with {@code useCursorFetch} instead of keeping them on the
+ * same heap. Each run gets a fresh database file.</p>
+ */
+@Tag("small-heap")
+@SpringBootTest(properties = {
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class TaskExportLargeTableTest {
+
+    private static final int SEED_ROWS = 1_000;
+    private static final int DOUBLINGS = 8; // 1,000 * 2^8 = 256,000 rows
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepositoryTemplate taskRepositoryTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("task-export");
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:file:" + directory.resolve("tasks") + ";LAZY_QUERY_EXECUTION=TRUE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void exportTasks_WithHundredsOfThousandsOfRows_ShouldNotAccumulateEntities() throws Exception {
+        // Given - seed a thousand rows, then double them in place with INSERT ... SELECT
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            List<Task> seed = new ArrayList<>(SEED_ROWS);
+            for (int i = 0; i < SEED_ROWS; i++) {
+                seed.add(createTask("Task " + i, i % 2 == 0));
+            }
+            taskRepositoryTemplate.saveAll(seed);
+        });
+        for (int i = 0; i < DOUBLINGS; i++) {
+            transaction.executeWithoutResult(status -> {
+                Long offset = entityManager.createQuery("SELECT max(t.id) FROM Task t", Long.class).getSingleResult();
+                entityManager.createQuery("INSERT INTO Task (id, title, description, completed, createdAt, completedAt) " +
+                                "SELECT t.id + :offset, t.title, t.description, t.completed, t.createdAt, t.completedAt FROM Task t")
+                        .setParameter("offset", offset)
+                        .executeUpdate();
+            });
+        }
+        long expected = (long) SEED_ROWS << DOUBLINGS;
+
+        // When
+        CountingOutputStream out = new CountingOutputStream();
+        long written = taskExportService.exportTasks(null, null, null, out);
+
+        // Then - every row was written, and none of them was still held by the persistence context
+        assertThat(written).isEqualTo(expected);
+        assertThat(out.lines).isEqualTo(expected);
+        assertThat(out.maxManagedEntities).isLessThanOrEqualTo(1);
+    }
+
+    private Task createTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description for " + title);
+        task.setCompleted(completed);
+        if (completed) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+        return task;
+    }
+
+    /** Discards output, counting lines and sampling the persistence context size as rows arrive. */
+    private class CountingOutputStream extends OutputStream {
+        long lines;
+        int maxManagedEntities;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+
+        @Override
+        public void flush() {
+            maxManagedEntities = Math.max(maxManagedEntities,
+                    entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.todoapp.todo_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.business.TaskExportService;
+import com.todoapp.todo_backend.models.Task;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskRepository;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class TaskExportServiceTest {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepositoryTemplate taskRepositoryTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportTasks_ShouldWriteOneJsonLinePerTask() throws Exception {
+        // Given
+        taskRepository.deleteAllInBatch();
+        taskRepositoryTemplate.saveAll(List.of(createTask("Open", false), createTask("Done", true)));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = taskExportService.exportTasks(null, null, null, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], TaskResponseDto.class).getTitle()).isEqualTo("Open");
+        assertThat(objectMapper.readValue(lines[1], TaskResponseDto.class).getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void exportTasks_ShouldApplyCompletedAndCreatedAtFilters() throws Exception {
+        // Given - createdAt is stamped on insert, so the old task is backdated afterwards
+        taskRepository.deleteAllInBatch();
+        Task old = createTask("Old", true);
+        taskRepositoryTemplate.saveAll(List.of(old, createTask("Recent done", true), createTask("Recent open", false)));
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        entityManager.createNativeQuery("UPDATE task SET createdAt = :createdAt WHERE id = :id")
+                .setParameter("createdAt", cutoff.minusDays(9))
+                .setParameter("id", old.getId())
+                .executeUpdate();
+
+        // When
+        ByteArrayOutputStream recent = new ByteArrayOutputStream();
+        long writtenRecent = taskExportService.exportTasks(true, cutoff, null, recent);
+        ByteArrayOutputStream older = new ByteArrayOutputStream();
+        long writtenOlder = taskExportService.exportTasks(true, null, cutoff, older);
+
+        // Then
+        assertThat(writtenRecent).isEqualTo(1);
+        assertThat(recent.toString(StandardCharsets.UTF_8)).contains("Recent done").doesNotContain("Old", "Recent open");
+        assertThat(writtenOlder).isEqualTo(1);
+        assertThat(older.toString(StandardCharsets.UTF_8)).contains("\"title\":\"Old\"").doesNotContain("Recent");
+    }
+
+    private Task createTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description for " + title);
+        task.setCompleted(completed);
+        task.setCreatedAt(LocalDateTime.now());
+        if (completed) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+        return task;
+    }
+}
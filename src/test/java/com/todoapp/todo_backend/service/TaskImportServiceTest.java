@@ -0,0 +1,176 @@
+package com.todoapp.todo_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.todo_backend.business.TaskImportService;
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskImportSummaryDto;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TaskService taskService;
+
+    @Captor
+    private ArgumentCaptor<List<TaskRequestDto>> chunks;
+
+    private TaskImportService taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportService(taskService, new ObjectMapper(), VALIDATOR);
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 2);
+    }
+
+    @Test
+    void importTasks_WithNdjson_ShouldCommitInChunksAndReportBadLines() throws Exception {
+        // Given
+        String body = """
+                {"title":"One"}
+                {"title":"Two","description":"second"}
+
+                {"title":""}
+                not json
+                {"title":"Three"}
+                """;
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body), TaskImportService.Format.NDJSON);
+
+        // Then
+        assertThat(summary.getAccepted()).isEqualTo(3);
+        assertThat(summary.getRejected()).isEqualTo(2);
+        assertThat(summary.getRejections()).extracting("line").containsExactly(4L, 5L);
+        assertThat(summary.getRejections().get(0).getReason()).contains("Title is required");
+        assertThat(summary.getRejections().get(1).getReason()).startsWith("Malformed JSON");
+
+        verify(taskService, times(2)).createTasks(chunks.capture());
+        assertThat(chunks.getAllValues().get(0)).extracting(TaskRequestDto::getTitle).containsExactly("One", "Two");
+        assertThat(chunks.getAllValues().get(1)).extracting(TaskRequestDto::getTitle).containsExactly("Three");
+    }
+
+    @Test
+    void importTasks_WithCsv_ShouldSkipHeaderAndHandleQuotedFields() throws Exception {
+        // Given
+        String body = "title,description\n"
+                + "Plain,no quotes\n"
+                + "\"Comma, inside\",\"Line one\nline two with \"\"quotes\"\"\"\n"
+                + "Too,many,columns\n";
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body), TaskImportService.Format.CSV);
+
+        // Then
+        assertThat(summary.getAccepted()).isEqualTo(2);
+        assertThat(summary.getRejections()).extracting("line").containsExactly(5L);
+
+        verify(taskService).createTasks(chunks.capture());
+        TaskRequestDto quoted = chunks.getValue().get(1);
+        assertThat(quoted.getTitle()).isEqualTo("Comma, inside");
+        assertThat(quoted.getDescription()).isEqualTo("Line one\nline two with \"quotes\"");
+    }
+
+    @Test
+    void importTasks_WhenLaterChunkFails_ShouldKeepEarlierChunksAndRejectFailedLines() throws Exception {
+        // Given
+        when(taskService.createTasks(anyList()))
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+        String body = "A\nB\nC\nD\nE\n";
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body), TaskImportService.Format.CSV);
+
+        // Then
+        assertThat(summary.getAccepted()).isEqualTo(3);
+        assertThat(summary.getRejected()).isEqualTo(2);
+        assertThat(summary.getRejections()).extracting("line").containsExactly(3L, 4L);
+        assertThat(summary.getRejections().get(0).getReason()).contains("database unavailable");
+        verify(taskService, times(3)).createTasks(anyList());
+    }
+
+    @Test
+    void importTasks_WithUnterminatedCsvQuote_ShouldRejectRecordAtLimitAndResume() throws Exception {
+        // Given - the quote on line 2 never closes, followed by far more text than any record may hold
+        StringBuilder body = new StringBuilder("First\n\"Unterminated,quote\n");
+        String filler = "x".repeat(99) + "\n";
+        int fillerLines = 2 * TaskImportService.MAX_RECORD_LENGTH / filler.length();
+        body.append(filler.repeat(fillerLines));
+        body.append("Last\n");
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 1000);
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body.toString()), TaskImportService.Format.CSV);
+
+        // Then - the record is dropped once it passes the limit, and the lines after it are read again
+        assertThat(summary.getRejections()).singleElement().satisfies(rejection -> {
+            assertThat(rejection.getLine()).isEqualTo(2L);
+            assertThat(rejection.getReason()).startsWith("Record longer than");
+        });
+        verify(taskService).createTasks(chunks.capture());
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getAccepted()).isBetween(3L, (long) fillerLines);
+        assertThat(chunks.getValue()).hasSize((int) summary.getAccepted())
+                .extracting(TaskRequestDto::getTitle).startsWith("First").endsWith("Last");
+    }
+
+    @Test
+    void importTasks_WithOverlongNdjsonLine_ShouldRejectItAndContinue() throws Exception {
+        // Given
+        String body = "{\"title\":\"" + "y".repeat(10 * TaskImportService.MAX_RECORD_LENGTH) + "\"}\r\n"
+                + "{\"title\":\"After\"}\r\n";
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body), TaskImportService.Format.NDJSON);
+
+        // Then
+        assertThat(summary.getAccepted()).isEqualTo(1);
+        assertThat(summary.getRejections()).extracting("line").containsExactly(1L);
+        assertThat(summary.getRejections().get(0).getReason()).startsWith("Line longer than");
+        verify(taskService).createTasks(chunks.capture());
+        assertThat(chunks.getValue()).extracting(TaskRequestDto::getTitle).containsExactly("After");
+    }
+
+    @Test
+    void importTasks_ShouldCapReportedRejectionsButCountAll() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(taskImportService, "maxReportedRejections", 2);
+        String body = "{}\n{}\n{}\n";
+
+        // When
+        TaskImportSummaryDto summary = taskImportService.importTasks(stream(body), TaskImportService.Format.NDJSON);
+
+        // Then
+        assertThat(summary.getRejected()).isEqualTo(3);
+        assertThat(summary.getRejections()).hasSize(2);
+        assertThat(summary.isRejectionsTruncated()).isTrue();
+        verifyNoInteractions(taskService);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
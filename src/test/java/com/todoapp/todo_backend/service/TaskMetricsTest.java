@@ -0,0 +1,31 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskMetrics;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TaskMetrics taskMetrics = new TaskMetrics(registry);
+
+    @Test
+    void events_ShouldIncrementCreatedAndCompletedCounters() {
+        // When
+        taskMetrics.onTaskCreated(new TaskCreatedEvent(new TaskResponseDto(1L, "Task", null, LocalDateTime.now(), null)));
+        taskMetrics.onTaskCreated(new TaskCreatedEvent(new TaskResponseDto(2L, "Task", null, LocalDateTime.now(), null)));
+        taskMetrics.onTaskCompleted(new TaskCompletedEvent(List.of(1L, 2L), LocalDateTime.now()));
+
+        // Then
+        assertThat(registry.get("tasks.created").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("tasks.completed").counter().count()).isEqualTo(2.0);
+    }
+}
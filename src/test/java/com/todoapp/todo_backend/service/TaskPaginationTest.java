@@ -0,0 +1,138 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.exception.InvalidCursorException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskPageResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskPaginationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getInCompletedPage_ShouldWalkEveryTaskOnceInOrder() {
+        // Given - one batch, so every task shares the same createdAt and only the id breaks ties
+        List<Long> ids = createTasks(25).stream().map(TaskResponseDto::getId).toList();
+
+        // When
+        List<TaskResponseDto> walked = walkInCompleted(10);
+
+        // Then
+        assertThat(walked).extracting(TaskResponseDto::getId)
+                .containsExactlyElementsOf(ids.stream().sorted((a, b) -> Long.compare(b, a)).toList());
+    }
+
+    @Test
+    void getInCompletedPage_ShouldStayStableWhileTasksAreInsertedConcurrently() throws Exception {
+        // Given
+        Set<Long> original = new HashSet<>(createTasks(60).stream().map(TaskResponseDto::getId).toList());
+        AtomicBoolean paging = new AtomicBoolean(true);
+        CountDownLatch writerStarted = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+
+        // When - a writer keeps inserting newer tasks while a reader pages through
+        Future<?> inserts = writer.submit(() -> {
+            writerStarted.countDown();
+            while (paging.get()) {
+                createTasks(1);
+            }
+        });
+        assertThat(writerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<TaskResponseDto> walked;
+        try {
+            walked = walkInCompleted(7);
+        } finally {
+            paging.set(false);
+            inserts.get(10, TimeUnit.SECONDS);
+            writer.shutdown();
+        }
+
+        // Then - no task seen twice, none of the original tasks skipped, strict newest-first order
+        List<Long> walkedIds = walked.stream().map(TaskResponseDto::getId).toList();
+        assertThat(walkedIds).doesNotHaveDuplicates();
+        assertThat(walkedIds).containsAll(original);
+        for (int i = 1; i < walked.size(); i++) {
+            TaskResponseDto prev = walked.get(i - 1);
+            TaskResponseDto next = walked.get(i);
+            int byTime = next.getCreatedAt().compareTo(prev.getCreatedAt());
+            assertThat(byTime < 0 || (byTime == 0 && next.getId() < prev.getId())).isTrue();
+        }
+    }
+
+    @Test
+    void getCompletedPage_ShouldOrderByCompletionTimeAndEndWithNullCursor() {
+        // Given
+        List<TaskResponseDto> created = createTasks(12);
+        for (TaskResponseDto task : created) {
+            taskService.markDone(task.getId());
+        }
+
+        // When
+        TaskPageResponseDto first = taskService.getCompletedPage(null, 8);
+        TaskPageResponseDto second = taskService.getCompletedPage(first.getNextCursor(), 8);
+
+        // Then
+        assertThat(first.getItems()).hasSize(8);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).hasSize(4);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getItems().get(3).getId()).isEqualTo(created.get(0).getId());
+    }
+
+    @Test
+    void getCompletedPage_WithForeignCursor_ShouldThrow() {
+        assertThatThrownBy(() -> taskService.getCompletedPage("not-a-cursor", 5))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private List<TaskResponseDto> walkInCompleted(int size) {
+        List<TaskResponseDto> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageResponseDto page = taskService.getInCompletedPage(cursor, size);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return walked;
+    }
+
+    private List<TaskResponseDto> createTasks(int count) {
+        List<TaskRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskRequestDto dto = new TaskRequestDto();
+            dto.setTitle("Task " + i);
+            requests.add(dto);
+        }
+        return taskService.createTasks(requests);
+    }
+}
@@ -0,0 +1,127 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskSearchIndex;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.business.event.TasksArchivedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex(mock(TaskRepositoryTemplate.class));
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveDescriptionMatches() {
+        // Given
+        index.add(1, "Call plumber", "About the invoice", false);
+        index.add(2, "Pay invoice", "Electricity, before Friday", false);
+        index.add(3, "Groceries", null, false);
+
+        // When
+        List<Long> result = index.search("invoice ", null, 10);
+
+        // Then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_ShouldRequireEveryWordAndTreatTheLastOneAsPrefix() {
+        // Given
+        index.add(1, "Buy groceries", "Milk and eggs", false);
+        index.add(2, "Buy gift", "For the party", false);
+        index.add(3, "Groceries list", null, false);
+
+        // When / Then
+        assertThat(index.search("buy gro", null, 10)).containsExactly(1L);
+        assertThat(index.search("buy g", null, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("buy gro ", null, 10)).isEmpty();
+        assertThat(index.search("gro* list", null, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndPunctuation() {
+        // Given
+        index.add(7, "Renew PASSPORT!", "e-mail the consulate", false);
+
+        // When / Then
+        assertThat(index.search("passport", null, 10)).containsExactly(7L);
+        assertThat(index.search("E-Mail", null, 10)).containsExactly(7L);
+    }
+
+    @Test
+    void search_ShouldFilterByCompletionStateFromEvents() {
+        // Given
+        index.onTaskCreated(new TaskCreatedEvent(dto(1L, "Water plants")));
+        index.onTaskCreated(new TaskCreatedEvent(dto(2L, "Water garden")));
+        index.onTaskCompleted(new TaskCompletedEvent(List.of(1L), LocalDateTime.now()));
+
+        // When / Then
+        assertThat(index.search("water", true, 10)).containsExactly(1L);
+        assertThat(index.search("water", false, 10)).containsExactly(2L);
+        assertThat(index.search("water", null, 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void search_ShouldDropArchivedTasks() {
+        // Given
+        index.add(1, "Renew insurance", null, true);
+        index.add(2, "Renew passport", null, true);
+
+        // When
+        index.onTasksArchived(new TasksArchivedEvent(List.of(1L)));
+
+        // Then
+        assertThat(index.search("renew", null, 10)).containsExactly(2L);
+        assertThat(index.search("insurance", true, 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldPreferNewerTasksOnEqualScoreAndRespectLimit() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            index.add(id, "Standup notes", null, false);
+        }
+
+        // When
+        List<Long> result = index.search("standup", null, 3);
+
+        // Then
+        assertThat(result).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void add_ShouldKeepOutOfOrderAndRepeatedIdsSingle() {
+        // Given - the startup build and an event can both deliver a task, in any order
+        index.add(100, "Quarterly report", null, false);
+        index.add(50, "Quarterly review", null, false);
+        index.add(100, "Quarterly report", null, false);
+
+        // When
+        List<Long> result = index.search("quarterly ", null, 10);
+
+        // Then
+        assertThat(result).containsExactly(100L, 50L);
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNothing() {
+        // Given
+        index.add(1, "Anything", null, false);
+
+        // When / Then
+        assertThat(index.search("   ", null, 10)).isEmpty();
+        assertThat(index.search("*", null, 10)).isEmpty();
+    }
+
+    private TaskResponseDto dto(Long id, String title) {
+        return new TaskResponseDto(id, title, null, LocalDateTime.now(), null);
+    }
+}
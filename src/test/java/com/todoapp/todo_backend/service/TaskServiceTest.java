@@ -1,17 +1,26 @@
 package com.todoapp.todo_backend.service;
 
+import com.todoapp.todo_backend.business.LatestTasksCache;
+import com.todoapp.todo_backend.business.TaskSearchIndex;
 import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
 import com.todoapp.todo_backend.exception.ResourceNotFoundException;
 import com.todoapp.todo_backend.models.Task;
 import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
 import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.TaskCompletionState;
 import com.todoapp.todo_backend.repository.TaskRepository;
 import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -21,6 +30,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,28 +41,26 @@ class TaskServiceTest {
     @Mock
     private TaskRepositoryTemplate taskRepositoryTemplate;
 
+    @Spy
+    private LatestTasksCache latestTasksCache = new LatestTasksCache();
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
     @Test
     void getLatestTasks_ShouldReturnLatestIncompleteTasks() {
         // Given
-        Task task1 = new Task();
-        task1.setId(1L);
-        task1.setTitle("Task 1");
-        task1.setDescription("Description 1");
-        task1.setCompleted(false);
-        task1.setCreatedAt(LocalDateTime.now());
-
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-        task2.setDescription("Description 2");
-        task2.setCompleted(false);
-        task2.setCreatedAt(LocalDateTime.now());
-
-        List<Task> tasks = Arrays.asList(task1, task2);
-        when(taskRepositoryTemplate.getLatestCompletedTasks()).thenReturn(tasks);
+        TaskResponseDto task1 = new TaskResponseDto(1L, "Task 1", "Description 1", LocalDateTime.now(), null);
+        TaskResponseDto task2 = new TaskResponseDto(2L, "Task 2", "Description 2", LocalDateTime.now(), null);
+
+        List<TaskResponseDto> tasks = Arrays.asList(task1, task2);
+        when(taskRepositoryTemplate.getLatestCompletedTaskDtos()).thenReturn(tasks);
 
         // When
         List<TaskResponseDto> result = taskService.getLatestTasks();
@@ -62,7 +72,8 @@ class TaskServiceTest {
         assertThat(result.get(1).getId()).isEqualTo(2L);
         assertThat(result.get(1).getTitle()).isEqualTo("Task 2");
 
-        verify(taskRepositoryTemplate).getLatestCompletedTasks();
+        verify(taskRepositoryTemplate).getLatestCompletedTaskDtos();
+        verify(taskRepositoryTemplate, never()).getLatestCompletedTasks();
     }
 
     @Test
@@ -91,45 +102,87 @@ class TaskServiceTest {
         assertThat(result.getCreatedAt()).isNotNull();
 
         verify(taskRepositoryTemplate).save(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskCreatedEvent.class));
     }
 
     @Test
     void markDone_WithValidId_ShouldMarkTaskAsCompleted() {
         // Given
         Long taskId = 1L;
-        Task existingTask = new Task();
-        existingTask.setId(taskId);
-        existingTask.setTitle("Existing Task");
-        existingTask.setDescription("Existing Description");
-        existingTask.setCompleted(false);
-        existingTask.setCreatedAt(LocalDateTime.now());
+        when(taskRepositoryTemplate.markCompleted(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(1);
 
-        when(taskRepositoryTemplate.findByTaskId(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepositoryTemplate.save(any(Task.class))).thenReturn(existingTask);
+        // When
+        taskService.markDone(taskId);
+
+        // Then - a single direct update, no entity load or save
+        verify(taskRepositoryTemplate).markCompleted(eq(List.of(taskId)), any(LocalDateTime.class));
+        verify(taskRepositoryTemplate, never()).findByTaskId(any());
+        verify(taskRepositoryTemplate, never()).save(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskCompletedEvent.class));
+    }
+
+    @Test
+    void markDone_WithAlreadyCompletedTask_ShouldBeNoOp() {
+        // Given
+        Long taskId = 1L;
+        when(taskRepositoryTemplate.markCompleted(eq(List.of(taskId)), any(LocalDateTime.class))).thenReturn(0);
+        when(taskRepositoryTemplate.existsByTaskId(taskId)).thenReturn(true);
 
         // When
         taskService.markDone(taskId);
 
         // Then
-        verify(taskRepositoryTemplate).findByTaskId(taskId);
-        verify(taskRepositoryTemplate).save(any(Task.class));
-        // Verify the task was marked as completed
-        assertThat(existingTask.getCompleted()).isTrue();
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void markDone_WithNonExistentId_ShouldThrowException() {
         // Given
         Long nonExistentId = 999L;
-        when(taskRepositoryTemplate.findByTaskId(nonExistentId)).thenReturn(Optional.empty());
+        when(taskRepositoryTemplate.markCompleted(eq(List.of(nonExistentId)), any(LocalDateTime.class))).thenReturn(0);
+        when(taskRepositoryTemplate.existsByTaskId(nonExistentId)).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> taskService.markDone(nonExistentId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Task not found with id: " + nonExistentId);
 
-        verify(taskRepositoryTemplate).findByTaskId(nonExistentId);
-        verify(taskRepositoryTemplate, never()).save(any(Task.class));
+        verify(taskRepositoryTemplate).existsByTaskId(nonExistentId);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void markDoneAll_WhenEveryIdUpdates_ShouldSkipClassificationQuery() {
+        // Given
+        when(taskRepositoryTemplate.markCompleted(anyCollection(), any(LocalDateTime.class))).thenReturn(2);
+
+        // When
+        TaskCompletionResultDto result = taskService.markDone(List.of(1L, 2L, 2L));
+
+        // Then
+        assertThat(result.getCompleted()).containsExactly(1L, 2L);
+        assertThat(result.getAlreadyCompleted()).isEmpty();
+        assertThat(result.getMissing()).isEmpty();
+        verify(taskRepositoryTemplate, never()).findCompletionStates(anyCollection());
+        verify(eventPublisher).publishEvent(any(TaskCompletedEvent.class));
+    }
+
+    @Test
+    void markDoneAll_ShouldReportCompletedAlreadyCompletedAndMissingIds() {
+        // Given
+        ArgumentCaptor<LocalDateTime> stamp = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(taskRepositoryTemplate.markCompleted(anyCollection(), stamp.capture())).thenReturn(1);
+        when(taskRepositoryTemplate.findCompletionStates(anyCollection())).thenAnswer(invocation -> List.of(
+                new TaskCompletionState(1L, stamp.getValue()),
+                new TaskCompletionState(2L, stamp.getValue().minusDays(1))));
+
+        // When
+        TaskCompletionResultDto result = taskService.markDone(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result.getCompleted()).containsExactly(1L);
+        assertThat(result.getAlreadyCompleted()).containsExactly(2L);
+        assertThat(result.getMissing()).containsExactly(3L);
     }
 
     @Test
@@ -156,4 +209,76 @@ class TaskServiceTest {
         verify(taskRepositoryTemplate).save(any(Task.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void createTasks_ShouldPersistAllInOneCallAndKeepInputOrder() {
+        // Given
+        TaskRequestDto first = new TaskRequestDto();
+        first.setTitle("First");
+        TaskRequestDto second = new TaskRequestDto();
+        second.setTitle("Second");
+
+        when(taskRepositoryTemplate.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = 10;
+            for (Task task : tasks) {
+                task.setId(id++);
+            }
+            return tasks;
+        });
+
+        // When
+        List<TaskResponseDto> result = taskService.createTasks(List.of(first, second));
+
+        // Then
+        assertThat(result).extracting(TaskResponseDto::getTitle).containsExactly("First", "Second");
+        assertThat(result).extracting(TaskResponseDto::getId).containsExactly(10L, 11L);
+        verify(taskRepositoryTemplate).saveAll(anyList());
+        verify(taskRepositoryTemplate, never()).save(any(Task.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TaskCreatedEvent.class));
+    }
+
+    @Test
+    void getLatestTasks_ShouldServeRepeatedReadsFromCache() {
+        // Given
+        TaskResponseDto task = new TaskResponseDto(1L, "Task 1", null, LocalDateTime.now(), LocalDateTime.now());
+        when(taskRepositoryTemplate.getLatestCompletedTaskDtos()).thenReturn(List.of(task));
+
+        // When
+        taskService.getLatestTasks();
+        List<TaskResponseDto> result = taskService.getLatestTasks();
+
+        // Then
+        assertThat(result).extracting(TaskResponseDto::getId).containsExactly(1L);
+        verify(taskRepositoryTemplate, times(1)).getLatestCompletedTaskDtos();
+    }
+
+    @Test
+    void searchTasks_ShouldKeepIndexRankingAndDropRowsThatNoLongerMatchTheFilter() {
+        // Given - task 2 was completed after the index was consulted
+        when(taskSearchIndex.search("invoice", false, 20)).thenReturn(List.of(3L, 1L, 2L));
+        when(taskRepositoryTemplate.findTaskDtosByIds(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                new TaskResponseDto(1L, "Invoice B", null, LocalDateTime.now(), null),
+                new TaskResponseDto(2L, "Invoice C", null, LocalDateTime.now(), LocalDateTime.now()),
+                new TaskResponseDto(3L, "Invoice A", null, LocalDateTime.now(), null)));
+
+        // When
+        List<TaskResponseDto> result = taskService.searchTasks("invoice", false, null);
+
+        // Then
+        assertThat(result).extracting(TaskResponseDto::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void searchTasks_WithNoHits_ShouldNotQueryTheDatabase() {
+        // Given
+        when(taskSearchIndex.search("nothing", null, 20)).thenReturn(List.of());
+
+        // When
+        List<TaskResponseDto> result = taskService.searchTasks("nothing", null, null);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(taskRepositoryTemplate);
+    }
+
+}
\ No newline at end of file
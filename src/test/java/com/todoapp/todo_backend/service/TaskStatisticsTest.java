@@ -0,0 +1,129 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskStatistics;
+import com.todoapp.todo_backend.business.event.TaskCompletedEvent;
+import com.todoapp.todo_backend.business.event.TaskCreatedEvent;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCountBucketDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskStatsDto;
+import com.todoapp.todo_backend.repository.TaskCreationTime;
+import com.todoapp.todo_backend.repository.TaskRepositoryTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    @Mock
+    private TaskRepositoryTemplate taskRepositoryTemplate;
+
+    @InjectMocks
+    private TaskStatistics statistics;
+
+    @Test
+    void events_ShouldUpdateCountsAndCurrentBucketsWithoutQueries() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        statistics.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        statistics.onTaskCreated(new TaskCreatedEvent(dto(2L)));
+        statistics.onTaskCreated(new TaskCreatedEvent(dto(3L)));
+
+        // When
+        statistics.onTaskCompleted(new TaskCompletedEvent(List.of(1L, 2L), now));
+        TaskStatsDto stats = statistics.snapshot();
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getCompleted()).isEqualTo(2);
+        assertThat(stats.getIncomplete()).isEqualTo(1);
+        assertThat(stats.getMeanTimeToCompleteSeconds()).isNull();
+        assertThat(stats.getCompletionsPerHour()).hasSize(48);
+        assertThat(stats.getCompletionsPerHour().get(47))
+                .isEqualTo(new TaskCountBucketDto(now.truncatedTo(ChronoUnit.HOURS), 2));
+        assertThat(stats.getCompletionsPerDay()).hasSize(30);
+        assertThat(stats.getCompletionsPerDay().get(29).getCount()).isEqualTo(2);
+        verifyNoInteractions(taskRepositoryTemplate);
+    }
+
+    @Test
+    void resolveCompletionTimes_ShouldLookUpQueuedCompletionsInOneQuery() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        statistics.onTaskCompleted(new TaskCompletedEvent(List.of(1L), now));
+        statistics.onTaskCompleted(new TaskCompletedEvent(List.of(2L), now));
+        when(taskRepositoryTemplate.findCreationTimes(anyCollection())).thenReturn(List.of(
+                new TaskCreationTime(1L, now.minusSeconds(60)),
+                new TaskCreationTime(2L, now.minusSeconds(180))));
+
+        // When
+        statistics.resolveCompletionTimes();
+        statistics.resolveCompletionTimes();
+
+        // Then
+        assertThat(statistics.snapshot().getMeanTimeToCompleteSeconds()).isEqualTo(120.0);
+        verify(taskRepositoryTemplate, times(1)).findCreationTimes(Set.of(1L, 2L));
+    }
+
+    @Test
+    void reconcile_ShouldReplaceCountersAndWindowsWithDatabaseValues() {
+        // Given - in-memory counts that drifted
+        LocalDateTime now = LocalDateTime.now();
+        statistics.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        statistics.onTaskCompleted(new TaskCompletedEvent(List.of(1L), now));
+        when(taskRepositoryTemplate.countTasks()).thenReturn(100L);
+        when(taskRepositoryTemplate.countCompletedTasks()).thenReturn(40L);
+        when(taskRepositoryTemplate.sumTimeToCompleteSeconds()).thenReturn(4000L);
+        when(taskRepositoryTemplate.streamCompletionTimesSince(any()))
+                .thenReturn(Stream.of(now, now, now.minusDays(1), now.minusDays(40)));
+
+        // When
+        statistics.reconcile();
+        statistics.resolveCompletionTimes();
+        TaskStatsDto stats = statistics.snapshot();
+
+        // Then
+        assertThat(stats.getTotal()).isEqualTo(100);
+        assertThat(stats.getCompleted()).isEqualTo(40);
+        assertThat(stats.getIncomplete()).isEqualTo(60);
+        assertThat(stats.getMeanTimeToCompleteSeconds()).isEqualTo(100.0);
+        assertThat(stats.getCompletionsPerDay().get(29).getCount()).isEqualTo(2);
+        assertThat(stats.getCompletionsPerDay().get(28).getCount()).isEqualTo(1);
+        assertThat(stats.getCompletionsPerDay()).extracting(TaskCountBucketDto::getCount)
+                .containsOnly(0L, 1L, 2L);
+        assertThat(stats.getReconciledAt()).isNotNull();
+        // The completion queued before reconciling is already in the aggregates.
+        verify(taskRepositoryTemplate, never()).findCreationTimes(anyCollection());
+    }
+
+    @Test
+    void reconcile_WhenDatabaseFails_ShouldKeepLiveCounters() {
+        // Given
+        statistics.onTaskCreated(new TaskCreatedEvent(dto(1L)));
+        when(taskRepositoryTemplate.countTasks()).thenThrow(new IllegalStateException("database down"));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertThat(statistics.snapshot().getTotal()).isEqualTo(1);
+        assertThat(statistics.snapshot().getReconciledAt()).isNull();
+    }
+
+    private TaskResponseDto dto(Long id) {
+        return new TaskResponseDto(id, "Task " + id, null, LocalDateTime.now(), null);
+    }
+}
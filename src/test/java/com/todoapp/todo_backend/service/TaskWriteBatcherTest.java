@@ -0,0 +1,244 @@
+package com.todoapp.todo_backend.service;
+
+import com.todoapp.todo_backend.business.TaskService;
+import com.todoapp.todo_backend.business.TaskWriteBatcher;
+import com.todoapp.todo_backend.exception.ResourceNotFoundException;
+import com.todoapp.todo_backend.exception.TaskWriteRejectedException;
+import com.todoapp.todo_backend.persistence.requestDTO.TaskRequestDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskCompletionResultDto;
+import com.todoapp.todo_backend.persistence.responseDTO.TaskResponseDto;
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTaskStore;
+import com.todoapp.todo_backend.repository.embedded.EmbeddedTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWriteBatcherTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<TaskRequestDto>> batch;
+
+    private TaskWriteBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new TaskWriteBatcher(taskService, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(batcher, "enabled", true);
+        // Wait long enough that everything a test submits lands in one batch.
+        ReflectionTestUtils.setField(batcher, "maxDelay", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    @Test
+    void create_ShouldCommitQueuedWritesTogetherInSubmissionOrder() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 3);
+        when(taskService.createTasks(anyList())).thenAnswer(inv -> created(inv.getArgument(0)));
+        batcher.start();
+
+        // When
+        List<CompletableFuture<TaskResponseDto>> results = new ArrayList<>();
+        for (String title : List.of("A", "B", "C")) {
+            results.add(batcher.create(request(title)));
+        }
+
+        // Then
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("A");
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("B");
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("C");
+        verify(taskService).createTasks(batch.capture());
+        assertThat(batch.getValue()).extracting(TaskRequestDto::getTitle).containsExactly("A", "B", "C");
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void complete_ShouldCollapseRepeatedIdsAndReportMissingOnes() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 4);
+        when(taskService.markDone(anyList()))
+                .thenReturn(new TaskCompletionResultDto(List.of(5L), List.of(), List.of(6L)));
+        batcher.start();
+
+        // When
+        CompletableFuture<Void> first = batcher.complete(5L);
+        CompletableFuture<Void> repeat = batcher.complete(5L);
+        CompletableFuture<Void> again = batcher.complete(5L);
+        CompletableFuture<Void> missing = batcher.complete(6L);
+
+        // Then
+        first.get(5, TimeUnit.SECONDS);
+        repeat.get(5, TimeUnit.SECONDS);
+        again.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> missing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+        verify(taskService).markDone(List.of(5L, 6L));
+    }
+
+    @Test
+    void failedBatch_ShouldBeRetriedPerWriteSoOnlyTheBadOneFails() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 3);
+        when(taskService.createTasks(anyList())).thenAnswer(inv -> {
+            List<TaskRequestDto> dtos = inv.getArgument(0);
+            if (dtos.stream().anyMatch(dto -> dto.getTitle().equals("bad"))) {
+                throw new IllegalStateException("constraint violated");
+            }
+            return created(dtos);
+        });
+        batcher.start();
+
+        // When
+        CompletableFuture<TaskResponseDto> good = batcher.create(request("good"));
+        CompletableFuture<TaskResponseDto> bad = batcher.create(request("bad"));
+        CompletableFuture<TaskResponseDto> alsoGood = batcher.create(request("also good"));
+
+        // Then
+        assertThat(good.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("good");
+        assertThat(alsoGood.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("also good");
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("constraint violated");
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void failedBatch_OnEmbeddedStorage_ShouldFailEveryWriteWithoutRetrying(@TempDir Path directory) throws Exception {
+        // Given - a rollback there keeps whatever the batch already stored, so a retry would store it again
+        try (EmbeddedTaskStore store = EmbeddedTaskStore.open(directory, 64 * 1024, 1 << 20)) {
+            batcher = new TaskWriteBatcher(taskService, new EmbeddedTransactionManager(store, false),
+                    new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(batcher, "enabled", true);
+            ReflectionTestUtils.setField(batcher, "maxDelay", Duration.ofSeconds(5));
+            ReflectionTestUtils.setField(batcher, "maxBatchSize", 2);
+            when(taskService.createTasks(anyList())).thenThrow(new IllegalStateException("store failed"));
+            batcher.start();
+
+            // When
+            CompletableFuture<TaskResponseDto> first = batcher.create(request("first"));
+            CompletableFuture<TaskResponseDto> second = batcher.create(request("second"));
+
+            // Then
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            verify(taskService, times(1)).createTasks(anyList());
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void errorInBatch_ShouldFailItsWritesAndKeepTheWriterRunning() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 1);
+        when(taskService.createTasks(anyList()))
+                .thenThrow(new StackOverflowError())
+                .thenAnswer(inv -> created(inv.getArgument(0)));
+        batcher.start();
+
+        // When
+        CompletableFuture<TaskResponseDto> failed = batcher.create(request("overflows"));
+        CompletableFuture<TaskResponseDto> next = batcher.create(request("next"));
+
+        // Then
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(next.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("next");
+    }
+
+    @Test
+    void create_WhenQueueIsFull_ShouldRejectImmediately() throws Exception {
+        // Given - the writer is stuck committing the first write and the queue holds one more
+        ReflectionTestUtils.setField(batcher, "queueCapacity", 1);
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 1);
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.createTasks(anyList())).thenAnswer(inv -> {
+            committing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created(inv.getArgument(0));
+        });
+        batcher.start();
+        CompletableFuture<TaskResponseDto> inFlight = batcher.create(request("in flight"));
+        assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TaskResponseDto> queued = batcher.create(request("queued"));
+
+        // When
+        CompletableFuture<TaskResponseDto> rejected = batcher.create(request("rejected"));
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(TaskWriteRejectedException.class);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("in flight");
+        assertThat(queued.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("queued");
+    }
+
+    @Test
+    void shutdown_ShouldDrainQueuedWritesAndRejectNewOnes() throws Exception {
+        // Given - a long batching window, so the writes are still waiting when shutdown starts
+        when(taskService.createTasks(anyList())).thenAnswer(inv -> created(inv.getArgument(0)));
+        batcher.start();
+        CompletableFuture<TaskResponseDto> first = batcher.create(request("first"));
+        CompletableFuture<TaskResponseDto> second = batcher.create(request("second"));
+
+        // When
+        batcher.shutdown();
+
+        // Then
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(second.join().getTitle()).isEqualTo("second");
+        assertThatThrownBy(() -> batcher.create(request("late")).join())
+                .hasCauseInstanceOf(TaskWriteRejectedException.class);
+    }
+
+    private TaskRequestDto request(String title) {
+        TaskRequestDto dto = new TaskRequestDto();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private List<TaskResponseDto> created(List<TaskRequestDto> dtos) {
+        List<TaskResponseDto> created = new ArrayList<>();
+        long id = 1;
+        for (TaskRequestDto dto : dtos) {
+            created.add(new TaskResponseDto(id++, dto.getTitle(), dto.getDescription(), LocalDateTime.now(), null));
+        }
+        return created;
+    }
+}
@@ -0,0 +1,93 @@
+#!/bin/sh
+# Measures time to first successful request for each startup variant.
+#
+#   sh startup-benchmark.sh [jar] [cds] [aot-cds] [native]      (default: jar cds aot-cds)
+#
+# Each variant is built, then started RUNS times (default 5). A run is timed from
+# process launch until GET /api/tasks/inCompleted first answers 200, so it includes
+# JVM startup, context refresh and the first database round trip. The app needs a
+# reachable MySQL; by default the one from docker-compose on localhost:3307.
+# The native variant needs a GraalVM JDK.
+#
+# Settings (environment): MVN (default mvn), RUNS, PORT (default 8081), SPRING_PROFILES_ACTIVE
+# (default fast-start), SPRING_DATASOURCE_URL/USERNAME/PASSWORD.
+
+set -e
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8081}"
+OUT=target/startup-benchmark
+JAR=todo-backend-0.0.1-SNAPSHOT.jar
+MVN="${MVN:-mvn}"
+
+export SPRING_PROFILES_ACTIVE="${SPRING_PROFILES_ACTIVE:-fast-start}"
+export SPRING_DATASOURCE_URL="${SPRING_DATASOURCE_URL:-jdbc:mysql://localhost:3307/tododb?useSSL=false&allowPublicKeyRetrieval=true&createDatabaseIfNotExist=true&rewriteBatchedStatements=true&useCursorFetch=true}"
+export SPRING_DATASOURCE_USERNAME="${SPRING_DATASOURCE_USERNAME:-root}"
+export SPRING_DATASOURCE_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-root}"
+export SERVER_PORT="$PORT"
+
+mkdir -p "$OUT"
+
+variants="${*:-jar cds aot-cds}"
+
+now_ms() {
+  date +%s%3N
+}
+
+# Measured straight from target: a CDS archive is only valid for the paths it was recorded with.
+build() {
+  case "$1" in
+    jar)     $MVN -q -DskipTests clean package ;;
+    cds)     $MVN -q -DskipTests clean -Pcds package ;;
+    aot-cds) $MVN -q -DskipTests clean -Paot,cds package ;;
+    native)  $MVN -q -DskipTests clean -Pnative native:compile ;;
+    *)       echo "Unknown variant: $1" >&2; exit 1 ;;
+  esac
+}
+
+start() {
+  case "$1" in
+    jar)     java -jar "target/$JAR" ;;
+    cds)     java -XX:SharedArchiveFile=target/cds/application.jsa -jar "target/cds/$JAR" ;;
+    aot-cds) java -XX:SharedArchiveFile=target/cds/application.jsa -Dspring.aot.enabled=true -jar "target/cds/$JAR" ;;
+    native)  target/todo-backend ;;
+  esac
+}
+
+measure() {
+  start_ms=$(now_ms)
+  start "$1" > "$OUT/$1.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "http://localhost:$PORT/api/tasks/inCompleted"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$1 exited before serving a request, see $OUT/$1.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  end_ms=$(now_ms)
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  echo $((end_ms - start_ms))
+}
+
+results=""
+for variant in $variants; do
+  echo "Building $variant..."
+  build "$variant"
+  times=""
+  i=0
+  while [ "$i" -lt "$RUNS" ]; do
+    times="$times $(measure "$variant")"
+    i=$((i + 1))
+  done
+  sorted=$(echo $times | tr ' ' '\n' | sort -n)
+  min=$(echo "$sorted" | head -n 1)
+  max=$(echo "$sorted" | tail -n 1)
+  median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+  results="$results$(printf '%-8s %8s %8s %8s' "$variant" "$min" "$median" "$max")
+"
+  echo "$variant$times" >> "$OUT/results.txt"
+done
+
+printf '\n%-8s %8s %8s %8s   (ms to first successful request, %s runs)\n' variant min median max "$RUNS"
+printf '%s' "$results"